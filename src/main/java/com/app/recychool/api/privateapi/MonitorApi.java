@@ -0,0 +1,80 @@
+package com.app.recychool.api.privateapi;
+
+import com.app.recychool.domain.dto.ApiResponseDTO;
+import com.app.recychool.domain.dto.BulkLoadProgressDTO;
+import com.app.recychool.domain.dto.CacheStatsDTO;
+import com.app.recychool.domain.dto.reserve.WaitlistPromotionStatsDTO;
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.service.BulkLoadJobService;
+import com.app.recychool.service.DataReadinessService;
+import com.app.recychool.service.WaitlistPromotionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 운영 지표 조회 (app.admin.emails 에 등록된 계정만, SecurityConfig)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/private/monitor")
+public class MonitorApi {
+
+    private final WaitlistPromotionService waitlistPromotionService;
+    private final CacheManager cacheManager;
+    private final BulkLoadJobService bulkLoadJobService;
+    private final DataReadinessService dataReadinessService;
+
+    // 주차 대기 승격 지표 (대기열 깊이, 승격 지연)
+    @GetMapping("/waitlist")
+    public ResponseEntity<ApiResponseDTO<WaitlistPromotionStatsDTO>> getWaitlistStats() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("주차 대기 승격 지표 조회", waitlistPromotionService.getStats()));
+    }
+
+    // 대량 적재 작업 진행률 (처리 속도, ETA, 실패 수)
+    @GetMapping("/bulk-loads")
+    public ResponseEntity<ApiResponseDTO<List<BulkLoadProgressDTO>>> getBulkLoads() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("대량 적재 진행 상황 조회", bulkLoadJobService.getProgress()));
+    }
+
+    // 기동 데이터 준비 상태 (LOADING / READY / DEGRADED / FAILED)
+    @GetMapping("/readiness")
+    public ResponseEntity<ApiResponseDTO<Map<StartupDataset, String>>> getReadiness() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("기동 데이터 준비 상태 조회", dataReadinessService.getStates()));
+    }
+
+    // 캐시별 hit / miss
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponseDTO<List<CacheStatsDTO>>> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof RedisCache redisCache)) continue;
+
+            CacheStatistics statistics = redisCache.getStatistics();
+            stats.add(CacheStatsDTO.builder()
+                    .cacheName(name)
+                    .hits(statistics.getHits())
+                    .misses(statistics.getMisses())
+                    .puts(statistics.getPuts())
+                    .deletes(statistics.getDeletes())
+                    .build());
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("캐시 지표 조회", stats));
+    }
+}
@@ -6,6 +6,7 @@ import com.app.recychool.domain.dto.reserve.ReserveCreateResponseDTO;
 import com.app.recychool.domain.enums.ReserveStatus;
 import com.app.recychool.domain.enums.ReserveType;
 import com.app.recychool.service.AuthService;
+import com.app.recychool.service.ReserveIdempotencyService;
 import com.app.recychool.service.ReserveService;
 import com.app.recychool.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -25,23 +26,18 @@ public class ReserveApi {
     private final ReserveService reserveService;
     private final AuthService authService;
     private final UserService userService;
+    private final ReserveIdempotencyService reserveIdempotencyService;
 
     // 장소대여 예약
     @PostMapping("/{schoolId}/place/reserves")
     public ResponseEntity<ApiResponseDTO<ReserveCreateResponseDTO>> reservePlace(
             Authentication authentication,
             @PathVariable Long schoolId,
-            @RequestBody ReserveCreateRequestDTO requestDTO
+            @RequestBody ReserveCreateRequestDTO requestDTO,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        Long userId = getUserId(authentication);
-
         ReserveCreateResponseDTO response =
-                reserveService.createReserve(
-                        userId,
-                        schoolId,
-                        ReserveType.PLACE,
-                        requestDTO
-                );
+                createReserve(authentication, schoolId, ReserveType.PLACE, requestDTO, idempotencyKey);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -53,17 +49,11 @@ public class ReserveApi {
     public ResponseEntity<ApiResponseDTO<ReserveCreateResponseDTO>> reserveParking(
             Authentication authentication,
             @PathVariable Long schoolId,
-            @RequestBody ReserveCreateRequestDTO requestDTO
+            @RequestBody ReserveCreateRequestDTO requestDTO,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        Long userId = getUserId(authentication);
-
         ReserveCreateResponseDTO response =
-                reserveService.createReserve(
-                        userId,
-                        schoolId,
-                        ReserveType.PARKING,
-                        requestDTO
-                );
+                createReserve(authentication, schoolId, ReserveType.PARKING, requestDTO, idempotencyKey);
 
         // WAITING → 202
         if (response.getReserveStatus() == ReserveStatus.WAITING) {
@@ -77,6 +67,31 @@ public class ReserveApi {
                 .ok(ApiResponseDTO.of("주차 예약 확정", response));
     }
 
+    // Idempotency-Key 가 있으면 같은 키의 재시도는 저장된 응답을 돌려준다 (유저 조회 포함 DB 접근 없음)
+    private ReserveCreateResponseDTO createReserve(
+            Authentication authentication,
+            Long schoolId,
+            ReserveType reserveType,
+            ReserveCreateRequestDTO requestDTO,
+            String idempotencyKey
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return reserveService.createReserve(getUserId(authentication), schoolId, reserveType, requestDTO);
+        }
+
+        String userEmail = authService.getUserEmailFromAuthentication(authentication);
+        String key = userEmail + ":" + reserveType.name() + ":" + schoolId + ":" + idempotencyKey;
+
+        return reserveIdempotencyService.execute(key, requestDTO, () ->
+                reserveService.createReserve(
+                        userService.getUserIdByUserEmail(userEmail),
+                        schoolId,
+                        reserveType,
+                        requestDTO
+                )
+        );
+    }
+
     // 공통 유저 추출
     private Long getUserId(Authentication authentication) {
         String userEmail =
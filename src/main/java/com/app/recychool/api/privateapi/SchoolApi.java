@@ -1,48 +1,78 @@
 package com.app.recychool.api.privateapi;
 
 import com.app.recychool.domain.dto.ApiResponseDTO;
-import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.dto.SchoolListPageDTO;
 import com.app.recychool.domain.entity.School;
-import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.handler.RequiresData;
 import com.app.recychool.service.SchoolService;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/school")
+@RequiresData(StartupDataset.SCHOOLS)
 public class SchoolApi {
+    private static final int STREAM_FLUSH_ROWS = 500;
+
     private final SchoolService schoolService;
+    private final ObjectMapper objectMapper;
 
-    @PersistenceContext
-    private EntityManager em;
+    // cursor / size / region 이 있으면 keyset 페이지 (region: 시도 이름, 예) 서울특별시)
     @GetMapping("/find-all")
-    public ResponseEntity<ApiResponseDTO> getSchoolAll() {
-        List<School> schoolAll = schoolService.getSchoolAll();
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("학교조회", schoolAll));
+    public ResponseEntity<ApiResponseDTO> getSchoolPage(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @RequestParam(value = "region", required = false) String region) {
+        SchoolListPageDTO page = schoolService.getSchoolPage(cursor, size, region);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("학교조회", page));
+    }
+
+    // 파라미터가 없으면 기존처럼 전체 목록을 주되, DB 커서에서 읽는 대로 JSON 을 흘려보낸다
+    @GetMapping(value = "/find-all", params = {"!cursor", "!size", "!region"})
+    public ResponseEntity<StreamingResponseBody> streamSchoolAll() {
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.writeStartObject();
+            generator.writeStringField("message", "학교조회");
+            generator.writeArrayFieldStart("data");
+
+            int[] written = {0};
+            schoolService.streamSchoolList(school -> {
+                try {
+                    generator.writeObject(school);
+                    if (++written[0] % STREAM_FLUSH_ROWS == 0) generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+        };
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/parking-lot")
     public ResponseEntity<ApiResponseDTO> getParkingLot() {
-        String sql =
-                "SELECT * FROM (" +
-                        "  SELECT s.* FROM TBL_SCHOOL s " +
-                        "  WHERE s.SCHOOL_PARK_COUNT > 0 " +
-                        "  ORDER BY DBMS_RANDOM.VALUE" +
-                        ") WHERE ROWNUM <= 4";
-
-        List<School> lists = em.createNativeQuery(sql, School.class).getResultList();
+        List<School> lists = schoolService.getParkingLotSchools();
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("학교 주차공간 조회", lists));
     }
 
@@ -60,14 +90,20 @@ public class SchoolApi {
 
     //장소 대여 검색
     @GetMapping("/search-place-by-region")
-    public ResponseEntity<ApiResponseDTO> getSchoolsByRegion(@RequestParam("region") String region) {
-        List<School> schools = schoolService.getSchoolsWithoutPlaceReservationByRegion(region);
+    public ResponseEntity<ApiResponseDTO> getSchoolsByRegion(
+            @RequestParam("region") String region,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "4") int size) {
+        List<School> schools = schoolService.getSchoolsWithoutPlaceReservationByRegion(region, page, size);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("지역별 학교 검색 조회", schools));
     }
     //주차 검색
     @GetMapping("/search-parking-by-region")
-    public ResponseEntity<ApiResponseDTO> getParkingSchoolsByRegion(@RequestParam("region") String region) {
-        List<School> schools = schoolService.getSchoolsWithoutParkingReservationByRegion(region);
+    public ResponseEntity<ApiResponseDTO> getParkingSchoolsByRegion(
+            @RequestParam("region") String region,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "4") int size) {
+        List<School> schools = schoolService.getSchoolsWithoutParkingReservationByRegion(region, page, size);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("지역별 학교 검색 조회", schools));
     }
 }
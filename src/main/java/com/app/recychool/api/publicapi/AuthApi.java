@@ -6,6 +6,7 @@ import com.app.recychool.domain.entity.User;
 import com.app.recychool.exception.UserException;
 import com.app.recychool.repository.UserRepository;
 import com.app.recychool.service.AuthService;
+import com.app.recychool.service.AuthTokenCache;
 import com.app.recychool.service.SmsService;
 import com.app.recychool.service.UserService;
 import com.app.recychool.util.DeviceIdResolver;
@@ -41,6 +42,7 @@ public class AuthApi {
     private final SmsService smsService;
     private final UserRepository userRepository;
     private final DeviceIdResolver deviceIdResolver;
+    private final AuthTokenCache authTokenCache;
     
     // 회원 수정 (이메일 + 패스워드만 받아서 수정)
     @PostMapping("/modify")
@@ -60,6 +62,8 @@ public class AuthApi {
         
         // save
         userRepository.save(existingUser);
+        // 캐시에 남은 이전 비밀번호의 인증 정보 제거
+        authTokenCache.evictUser(existingUser.getId());
         
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("비밀번호가 변경되었습니다"));
     }
@@ -117,6 +121,8 @@ public class AuthApi {
 //        리턴 직전 == 로그인 직전에 로그인 상태 true로 변경
         foundUser.setUserIsLogin(1);
         userRepository.save(foundUser);
+        // 로그인 상태가 바뀌었으므로 캐시된 사용자 정보 제거
+        authTokenCache.evictUser(foundUser.getId());
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .header(HttpHeaders.SET_COOKIE, cookie.toString())
@@ -2,30 +2,137 @@ package com.app.recychool.api.publicapi;
 
 
 import com.app.recychool.domain.entity.Polygons;
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.handler.RequiresData;
 import com.app.recychool.repository.PolygonsRepository;
+import com.app.recychool.service.PolygonTileService;
+import com.app.recychool.util.GeoJsonCrs;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/polygons")
+@RequiresData(StartupDataset.POLYGONS)
 @RequiredArgsConstructor
 public class PolygonAPI {
 
     private final PolygonsRepository polygonsRepository;
+    private final PolygonTileService polygonTileService;
+    private final ObjectMapper objectMapper;
 
+    // 원본 GeoJSON 문자열 배열 (응답 형식은 그대로, CLOB 을 한 건씩 읽어 바로 쓴다)
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, path = "/find")
-    public List<String> listGeoJson() {
-        return polygonsRepository.findAll().stream().map(Polygons::getGeoJson).collect(Collectors.toList());
+    public ResponseEntity<StreamingResponseBody> listGeoJson() {
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.writeStartArray();
+            polygonTileService.streamRawGeoJsons(geoJson -> {
+                try {
+                    generator.writeString(geoJson);
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.close();
+        };
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 줌 레벨별로 단순화한 FeatureCollection (미리 gzip, ETag 로 304 응답)
+    @GetMapping(path = "/simplified")
+    public ResponseEntity<byte[]> getSimplified(
+            @RequestParam(value = "zoom", defaultValue = "10") int zoom,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        PolygonTileService.Tile tile = polygonTileService.getTile(zoom);
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+        // 인코딩마다 바이트가 다르므로 ETag 도 따로 (gzip 은 "-gz" 접미사)
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? tile.etag().replaceFirst("\"$", "-gz\"") : tile.etag();
+
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(tile.gzipped());
+        }
+        return builder.body(tile.json());
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 나열된 ETag 중 하나라도 같으면 (W/ 는 약한 비교로 무시)
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    // Accept-Encoding: gzip (또는 *) 이 q > 0 으로 허용됐는지. gzip;q=0 은 거절, gzip 이 명시되면 * 보다 우선
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            String coding = params[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) gzipQ = q;
+            else if (coding.equals("*")) anyQ = q;
+        }
+        if (gzipQ != null) return gzipQ > 0;
+        return anyQ != null && anyQ > 0;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     public Polygons create(@RequestBody CreateDto dto) {
-        Polygons polygons = Polygons.builder().polygonName(dto.name()).geoJson(dto.geoJson()).build();
-       return polygonsRepository.save(polygons);
+        GeoJsonCrs.Normalized normalized = GeoJsonCrs.normalize(dto.name(), dto.geoJson());
+        Polygons polygons = Polygons.builder().polygonName(dto.name()).geoJson(dto.geoJson())
+                .geoJsonWgs84(normalized.geoJsonWgs84()).sourceSrid(normalized.srid()).build();
+        Polygons saved = polygonsRepository.save(polygons);
+        polygonTileService.rebuild();
+        return saved;
     }
 
     public record CreateDto(String name, String geoJson) {}
@@ -61,7 +61,7 @@ public class ReserveApi {
             @PathVariable Long schoolId
     ) {
         LocalDate today = LocalDate.now();
-        LocalDate end = today.plusMonths(1);
+        LocalDate end = ReserveQueryService.parkingCalendarEnd(today);
 
         Map<String, Integer> result =
                 reserveQueryService.getParkingCountMap(schoolId, today, end);
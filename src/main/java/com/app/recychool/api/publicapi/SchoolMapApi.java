@@ -0,0 +1,113 @@
+package com.app.recychool.api.publicapi;
+
+import com.app.recychool.domain.dto.ApiResponseDTO;
+import com.app.recychool.domain.dto.reserve.SchoolClusterDTO;
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.enums.SchoolSampleCategory;
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.handler.RequiresData;
+import com.app.recychool.service.RegionIndexService;
+import com.app.recychool.service.SchoolClusterIndex;
+import com.app.recychool.service.SchoolSamplingService;
+import com.app.recychool.service.SchoolSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/public/schools")
+@RequiresData(StartupDataset.SCHOOLS)
+public class SchoolMapApi {
+
+    private static final double MAX_RADIUS_METERS = 100_000;
+    private static final int MAX_NEARBY = 100;
+    private static final int MAX_VIEWPORT = 2_000;
+
+    private final SchoolSpatialIndex schoolSpatialIndex;
+    private final SchoolSamplingService schoolSamplingService;
+    private final SchoolClusterIndex schoolClusterIndex;
+    private final RegionIndexService regionIndexService;
+
+    // 주변 학교 (거리순). k 를 주면 반경 안에서 가까운 k 개
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponseDTO<List<SchoolMapDTO>>> getNearbySchools(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radius", defaultValue = "3000") double radius,
+            @RequestParam(value = "k", defaultValue = "20") int k,
+            @RequestParam(value = "type", required = false) ReserveType type
+    ) {
+        List<SchoolMapDTO> schools = schoolSpatialIndex.findNearest(
+                lat, lng,
+                Math.min(radius, MAX_RADIUS_METERS),
+                Math.min(k, MAX_NEARBY),
+                filterFor(type));
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("주변 학교 조회 성공", schools));
+    }
+
+    // 지도 화면 영역 안의 학교
+    @GetMapping("/viewport")
+    public ResponseEntity<ApiResponseDTO<List<SchoolMapDTO>>> getViewportSchools(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "limit", defaultValue = "500") int limit,
+            @RequestParam(value = "type", required = false) ReserveType type
+    ) {
+        List<SchoolMapDTO> schools = schoolSpatialIndex.findInBounds(
+                minLat, minLng, maxLat, maxLng,
+                Math.min(limit, MAX_VIEWPORT),
+                filterFor(type));
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("영역 내 학교 조회 성공", schools));
+    }
+
+    // 줌 레벨에 맞춰 미리 묶어 둔 마커 클러스터
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponseDTO<List<SchoolClusterDTO>>> getSchoolClusters(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam("zoom") int zoom
+    ) {
+        List<SchoolClusterDTO> clusters = schoolClusterIndex.getClusters(minLat, minLng, maxLat, maxLng, zoom);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("학교 클러스터 조회 성공", clusters));
+    }
+
+    // 좌표가 속한 행정구역 (시도)
+    @GetMapping("/region")
+    @RequiresData(StartupDataset.POLYGONS)
+    public ResponseEntity<ApiResponseDTO<List<String>>> getRegion(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("행정구역 조회 성공", regionIndexService.regionsOf(lat, lng)));
+    }
+
+    // PARKING: 주차 가능 대수가 있는 학교, PLACE: 장소대여 예약이 없는 학교
+    private Predicate<Long> filterFor(ReserveType type) {
+        if (type == null) return id -> true;
+
+        SchoolSampleCategory category = type == ReserveType.PARKING
+                ? SchoolSampleCategory.HAS_PARKING
+                : SchoolSampleCategory.NO_PLACE_RESERVE;
+        return id -> schoolSamplingService.contains(category, id);
+    }
+}
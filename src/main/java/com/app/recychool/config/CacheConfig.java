@@ -36,6 +36,7 @@ public class CacheConfig {
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .enableStatistics() // hit / miss 집계 (모니터링용)
                 .build();
     }
 }
\ No newline at end of file
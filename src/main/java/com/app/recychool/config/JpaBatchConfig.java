@@ -0,0 +1,55 @@
+package com.app.recychool.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.sql.DataSource;
+
+/**
+ * 시퀀스 id 를 allocationSize(50) 단위로 미리 받아 두고(pooled-lo),
+ * insert/update 를 JDBC 배치로 묶는다.
+ * pooled-lo 는 시퀀스 값이 블록의 시작값이라 JDBC 로 직접 NEXTVAL 을 쓰는 코드와도 겹치지 않는다.
+ * DB 시퀀스 INCREMENT BY 도 50 이어야 한다 (resources/db/pooled-sequences.sql, 기동 시 PooledSequenceAligner 가 맞춘다).
+ * app.jpa.id-optimizer=none, app.jpa.batch-size=1 이면 이전 방식(insert 마다 NEXTVAL, 배치 없음)과 같다 (처리량 비교용).
+ * 학교 CSV 적재(SchoolBulkLoadService, JDBC)도 id-optimizer=none 이면 행마다 NEXTVAL 값 하나를 쓴다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.jpa.id-optimizer:pooled-lo}")
+    private String idOptimizer;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, idOptimizer);
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // Hibernate 의 시퀀스 증가폭 검사보다 먼저 실행되도록 EntityManagerFactory 가 이 빈에 의존
+    @Bean
+    @ConditionalOnProperty(name = "app.jpa.align-sequences", havingValue = "true", matchIfMissing = true)
+    public PooledSequenceAligner pooledSequenceAligner(DataSource dataSource) {
+        return new PooledSequenceAligner(dataSource, new ClassPathResource("db/pooled-sequences.sql"));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.jpa.align-sequences", havingValue = "true", matchIfMissing = true)
+    public static EntityManagerFactoryDependsOnPostProcessor pooledSequenceAlignerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(PooledSequenceAligner.class) {
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.recychool.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * EntityManagerFactory 보다 먼저 db/pooled-sequences.sql 의 INCREMENT BY 를 DB 시퀀스에 맞춘다.
+ * Hibernate 6 은 엔티티 allocationSize 와 DB 시퀀스 증가폭이 다르면 기동을 멈추므로,
+ * 예전 DB(증가폭 1)로 기동하면 여기서 ALTER 하고, 권한 등으로 실패하면 원인을 적어 기동을 멈춘다.
+ * 시퀀스가 아직 없으면 (새 DB, ddl-auto 가 생성) 건너뛴다.
+ */
+@Slf4j
+public class PooledSequenceAligner implements InitializingBean {
+
+    private static final Pattern ALTER = Pattern.compile(
+            "ALTER\\s+SEQUENCE\\s+(\\w+)\\s+INCREMENT\\s+BY\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Resource script;
+
+    public PooledSequenceAligner(DataSource dataSource, Resource script) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.script = script;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Matcher matcher = ALTER.matcher(script.getContentAsString(StandardCharsets.UTF_8));
+        int altered = 0;
+        while (matcher.find()) {
+            String sequence = matcher.group(1).toUpperCase();
+            int increment = Integer.parseInt(matcher.group(2));
+            if (align(sequence, increment)) altered++;
+        }
+        if (altered > 0) {
+            log.info("시퀀스 증가폭 변경: {}개 ({})", altered, script.getFilename());
+        }
+    }
+
+    // 바꿨으면 true
+    private boolean align(String sequence, int increment) {
+        List<Integer> current = jdbcTemplate.queryForList(
+                "SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = ?", Integer.class, sequence);
+        if (current.isEmpty() || current.get(0) == increment) return false;
+
+        try {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + increment);
+            log.info("시퀀스 {} INCREMENT BY {} → {}", sequence, current.get(0), increment);
+            return true;
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("시퀀스 " + sequence + " 의 INCREMENT BY 가 " + current.get(0)
+                    + " 이지만 엔티티 allocationSize 는 " + increment + " 입니다. "
+                    + "DBA 권한으로 " + script.getFilename() + " 을 먼저 실행하세요.", e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 // Key와 Value, Hash Key와 Value를 모두 UTF-8 문자열로 직렬화하는 RedisTemplate 생성
@@ -23,4 +24,12 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    // pub/sub 구독용 (인스턴스 간 로컬 캐시 무효화)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
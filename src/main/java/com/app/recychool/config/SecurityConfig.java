@@ -1,6 +1,7 @@
 package com.app.recychool.config;
 
 import com.app.recychool.domain.dto.TokenDTO;
+import com.app.recychool.domain.entity.User;
 import com.app.recychool.filter.JwtAuthenticationFilter;
 import com.app.recychool.handler.JwtAuthenticationEntryPoint;
 import com.app.recychool.handler.OAuth2LoginSuccessHandler;
@@ -8,17 +9,25 @@ import com.app.recychool.service.AuthService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
@@ -27,12 +36,19 @@ public class SecurityConfig {
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final AuthService authService;
 
+    // 운영 지표(/private/monitor/**)를 볼 수 있는 계정 이메일 (쉼표 구분, 비어 있으면 아무도 못 봄)
+    // 사용자 권한(role) 컬럼이 없어서 설정값으로 관리자 계정을 지정한다
+    @Value("${app.admin.emails:}")
+    private String adminEmails;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())      // CSRF 비활성화
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/private/monitor/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(authentication.get())))
                         .requestMatchers("/private/**").authenticated()
                         .anyRequest().permitAll() // 모든 요청 허용
                 )
@@ -85,6 +101,17 @@ public class SecurityConfig {
     }
 
 
+    private boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) return false;
+        if (user.getUserEmail() == null) return false;
+
+        Set<String> admins = Arrays.stream(adminEmails.split(","))
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toSet());
+        return admins.contains(user.getUserEmail().trim().toLowerCase(Locale.ROOT));
+    }
+
     // Cors 설정
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
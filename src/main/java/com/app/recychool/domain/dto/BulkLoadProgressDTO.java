@@ -0,0 +1,31 @@
+package com.app.recychool.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkLoadProgressDTO {
+
+    private String jobName;
+    private String source;
+    private String status;
+    private Long resumedFrom;   // 이어받은 위치 (레코드 수 / 파일 index)
+    private Long committed;     // 커밋까지 끝난 위치
+    private Long batches;
+    private Long inserted;
+    private Long updated;
+    private Long unchanged;
+    private Long skipped;
+    private Long failed;
+    private Double unitsPerSecond;
+    private Double percent;     // 모르면 -1
+    private Long etaSeconds;    // 모르면 -1
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
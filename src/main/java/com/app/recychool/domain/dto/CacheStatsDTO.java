@@ -0,0 +1,17 @@
+package com.app.recychool.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+
+    private String cacheName;
+    private Long hits;
+    private Long misses;
+    private Long puts;
+    private Long deletes;
+}
@@ -0,0 +1,14 @@
+package com.app.recychool.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 폴리곤 타일 생성용 projection (원본 GEOJSON CLOB 은 읽지 않는다)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PolygonSourceDTO {
+    private String polygonName;
+    private String geoJsonWgs84;
+}
@@ -0,0 +1,26 @@
+package com.app.recychool.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 학교 목록 화면 / 전체 스트림용 projection (연관 엔티티 없이 School 의 JSON 컬럼 전부)
+// 필드 순서는 School 과 같게 둔다 (예전 find-all 응답과 같은 JSON 모양)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SchoolListDTO {
+    private Long id;
+    private String schoolCity;
+    private String schoolName;
+    private Double schoolLand;
+    private Double schoolArea;
+    private String schoolPhone;
+    private String schoolAddress;
+    private Double schoolLat;
+    private Double schoolLon;
+    private Integer schoolParkCount;
+    private String schoolRegion;
+    private String schoolImagePath;
+    private String schoolImageName;
+}
@@ -0,0 +1,17 @@
+package com.app.recychool.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 학교 목록 keyset 페이지 (nextCursor 를 다음 요청의 cursor 로 넘긴다)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SchoolListPageDTO {
+    private List<SchoolListDTO> schools;
+    private Long nextCursor;
+    private boolean hasNext;
+}
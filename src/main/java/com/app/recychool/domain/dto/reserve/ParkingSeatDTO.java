@@ -0,0 +1,17 @@
+package com.app.recychool.domain.dto.reserve;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingSeatDTO {
+
+    private Long schoolId;
+    private LocalDate startDate;
+    private LocalDate endDate; // 주차 예약이 자리를 차지하는 마지막 날짜
+}
@@ -0,0 +1,20 @@
+package com.app.recychool.domain.dto.reserve;
+
+import com.app.recychool.domain.enums.ReserveType;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReserveExpireTargetDTO {
+
+    private Long reserveId;
+    private Long schoolId;
+    private ReserveType reserveType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,21 @@
+package com.app.recychool.domain.dto.reserve;
+
+import lombok.*;
+
+// 예약 페이지 중 거의 바뀌지 않는 학교 정보 부분 (캐시 단위)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservePageSchoolDTO {
+
+    private Long schoolId;
+    private String schoolName;
+    private String schoolAddress;
+    private String schoolPhone;
+
+    private Double schoolArea;
+    private String schoolImageName;
+    private String schoolImagePath;
+}
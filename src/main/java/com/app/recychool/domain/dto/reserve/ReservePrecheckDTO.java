@@ -0,0 +1,17 @@
+package com.app.recychool.domain.dto.reserve;
+
+import lombok.*;
+
+// 예약 생성 전 검증에 필요한 값을 한 번에 조회한 결과
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservePrecheckDTO {
+
+    private Double schoolLand;        // 주차 수용량 계산용 대지면적
+    private Long userCount;           // 0이면 존재하지 않는 사용자
+    private Long userActiveCount;     // 해당 타입의 사용자 활성(PENDING + COMPLETED) 예약 수
+    private Long dateActiveCount;     // 해당 학교/날짜/타입의 활성 예약 수 (PLACE 중복 확인)
+}
@@ -0,0 +1,17 @@
+package com.app.recychool.domain.dto.reserve;
+
+import lombok.*;
+
+// 지도 마커 클러스터 (count == 1 이면 학교 한 곳)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchoolClusterDTO {
+    private int count;
+    private Double x;   // 클러스터 중심 경도
+    private Double y;   // 클러스터 중심 위도
+    private Long schoolId;      // 대표 학교 (중심에 가장 가까운 학교)
+    private String schoolName;
+}
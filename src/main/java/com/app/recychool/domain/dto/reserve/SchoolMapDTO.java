@@ -12,4 +12,10 @@ public class SchoolMapDTO {
     private String schoolName;
     private Double x;
     private Double y;
+    private Double distanceMeters; // 기준 좌표로부터의 거리 (영역 조회에서는 null)
+
+    // 좌표 projection 용 (거리 없음)
+    public SchoolMapDTO(Long schoolId, String schoolName, Double x, Double y) {
+        this(schoolId, schoolName, x, y, null);
+    }
 }
@@ -0,0 +1,18 @@
+package com.app.recychool.domain.dto.reserve;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistPromotionStatsDTO {
+
+    private Integer queueDepth;      // 승격 대기 중인 학교 수
+    private Long releasedEvents;     // 지금까지 받은 자리 반환 이벤트 수
+    private Long promotedCount;      // WAITING → PENDING 승격 건수
+    private Long batches;            // 처리한 배치 수
+    private Double avgLatencyMs;     // 자리 반환 → 승격 처리까지 평균 지연
+    private Long maxLatencyMs;
+}
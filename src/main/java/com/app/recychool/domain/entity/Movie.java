@@ -17,7 +17,7 @@ import java.util.List;
 @SequenceGenerator(
         name = "SEQ_MOVIE_GENERATOR",
         sequenceName = "SEQ_MOVIE",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class Movie {
     @Id
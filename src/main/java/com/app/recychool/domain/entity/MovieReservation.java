@@ -16,7 +16,7 @@ import java.util.Date;
 @SequenceGenerator(
         name = "SEQ_MOVIE_RESERVATION_GENERATOR",
         sequenceName = "SEQ_MOVIE_RESERVATION",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class MovieReservation {
     @Id
@@ -16,7 +16,7 @@ import lombok.*;
 @SequenceGenerator(
         name = "SEQ_PAYMENT_GENERATOR",
         sequenceName = "SEQ_PAYMENT",
-        allocationSize = 1
+        allocationSize = 50
 )
 
 public class Payment {
@@ -16,7 +16,7 @@ import java.util.Date;
 @SequenceGenerator(
         name = "SEQ_PAYMENT_CANCEL_GENERATOR",
         sequenceName = "SEQ_PAYMENT_CANCEL",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class PaymentCancel {
 
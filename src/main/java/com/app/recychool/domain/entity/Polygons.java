@@ -21,7 +21,14 @@ public class Polygons {
 
     @Lob
     @Column(name = "GEOJSON", columnDefinition = "CLOB")
-    private String geoJson;
+    private String geoJson; // 원본 좌표계 그대로
+
+    @Lob
+    @Column(name = "GEOJSON_WGS84", columnDefinition = "CLOB")
+    private String geoJsonWgs84; // 적재 시 WGS84 (경도, 위도) 로 변환한 값
+
+    @Column(name = "SOURCE_SRID")
+    private Integer sourceSrid; // 원본 좌표계 (5179 / 4326)
 
     public String getGeoJson() {
         return geoJson;
@@ -29,4 +36,9 @@ public class Polygons {
     public void setGeoJson(String geoJson) {
         this.geoJson = geoJson;
     }
+
+    public void normalize(String geoJsonWgs84, Integer sourceSrid) {
+        this.geoJsonWgs84 = geoJsonWgs84;
+        this.sourceSrid = sourceSrid;
+    }
 }
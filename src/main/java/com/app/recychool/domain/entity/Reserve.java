@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @SequenceGenerator(
         name = "SEQ_RESERVE_GENERATOR",
         sequenceName = "SEQ_RESERVE",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class Reserve {
 
@@ -58,6 +58,24 @@ public class Reserve {
 
     private LocalDateTime createdAt;
 
+    // PENDING 이 된 시각 (생성 시 바로 PENDING 이면 생성 시각, 대기 승격이면 승격 시각)
+    // PENDING 시간 초과 정리는 이 값을 기준으로 한다
+    private LocalDateTime pendingSince;
+
+    @PrePersist
+    void onCreate() {
+        if (this.createdAt == null) this.createdAt = LocalDateTime.now();
+        if (this.reserveStatus == ReserveStatus.PENDING && this.pendingSince == null) this.pendingSince = this.createdAt;
+    }
+
+    // 대기 → 결제 대기 승격 (결제 기한은 승격 시점부터 다시 센다)
+    public void promote() {
+        if (this.reserveStatus != ReserveStatus.WAITING) return;
+        this.reserveStatus = ReserveStatus.PENDING;
+        this.waitingOrder = null;
+        this.pendingSince = LocalDateTime.now();
+    }
+
     public void cancel() {
         if (this.reserveStatus == ReserveStatus.CANCELED) return;
         this.reserveStatus = ReserveStatus.CANCELED;
@@ -0,0 +1,80 @@
+package com.app.recychool.domain.entity;
+
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// TBL_RESERVE 상태 변경을 같은 트랜잭션에 기록하는 outbox
+@Entity
+@Table(name = "TBL_RESERVE_OUTBOX")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@SequenceGenerator(
+        name = "SEQ_RESERVE_OUTBOX_GENERATOR",
+        sequenceName = "SEQ_RESERVE_OUTBOX",
+        allocationSize = 50
+)
+public class ReserveOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "SEQ_RESERVE_OUTBOX_GENERATOR")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reserveId;
+
+    @Column(nullable = false)
+    private Long schoolId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReserveType reserveType;
+
+    @Enumerated(EnumType.STRING)
+    private ReserveStatus fromStatus; // null 이면 신규 생성
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReserveStatus toStatus;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt; // null 이면 아직 발행 전
+
+    public static ReserveOutbox from(ReserveStatusChangedEvent event) {
+        return ReserveOutbox.builder()
+                .reserveId(event.reserveId())
+                .schoolId(event.schoolId())
+                .reserveType(event.reserveType())
+                .fromStatus(event.fromStatus())
+                .toStatus(event.toStatus())
+                .startDate(event.startDate())
+                .endDate(event.endDate())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public ReserveStatusChangedEvent toEvent() {
+        return new ReserveStatusChangedEvent(
+                reserveId,
+                schoolId,
+                reserveType,
+                fromStatus,
+                toStatus,
+                startDate,
+                endDate
+        );
+    }
+}
@@ -7,7 +7,7 @@ import lombok.*;
 import java.util.List;
 
 @Entity
-@Table(name = "TBL_SCHOOL")
+@Table(name = "TBL_SCHOOL", indexes = @Index(name = "IDX_SCHOOL_REGION", columnList = "SCHOOL_REGION"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +16,7 @@ import java.util.List;
 @SequenceGenerator(
         name = "SEQ_SCHOOL_GENERATOR",
         sequenceName = "SEQ_SCHOOL",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class School {
     //시군구명 폐교명 건물연면적 대지 담당자 전화번호	소재지도로명주소
@@ -33,6 +33,11 @@ public class School {
     private Double schoolLat; // 위도
     private Double schoolLon; // 경도
     private Integer schoolParkCount;
+    @Column(name = "SCHOOL_REGION")
+    private String schoolRegion; // 시도 (행정구역 폴리곤 기준, RegionIndexService 가 채움)
+    @Column(name = "ROW_HASH", length = 64)
+    @JsonIgnore
+    private String rowHash; // CSV 원본 행 해시 (재적재 시 변경 감지용)
 
 
     private String schoolImagePath;
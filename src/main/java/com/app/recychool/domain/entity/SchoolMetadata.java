@@ -22,7 +22,4 @@ public class SchoolMetadata {
 
     @Column(name = "create_at")
     private LocalDateTime createAt;
-
-    public void save(SchoolMetadata meta) {
-    }
 }
@@ -22,7 +22,7 @@ import java.util.List;
 @SequenceGenerator(
         name = "SEQ_USER_GENERATOR",
         sequenceName = "SEQ_USER",
-        allocationSize = 1
+        allocationSize = 50
 )
 @ToString(onlyExplicitlyIncluded = true)
 public class User {
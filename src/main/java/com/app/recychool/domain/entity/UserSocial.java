@@ -13,7 +13,7 @@ import lombok.*;
 @SequenceGenerator(
         name = "SEQ_USER_SOCIAL_GENERATOR",
         sequenceName = "SEQ_USER_SOCIAL",
-        allocationSize = 1
+        allocationSize = 50
 )
 public class UserSocial {
 
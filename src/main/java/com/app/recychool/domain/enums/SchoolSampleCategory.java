@@ -0,0 +1,9 @@
+package com.app.recychool.domain.enums;
+
+// 랜덤 학교 추천 대상 구분
+public enum SchoolSampleCategory {
+    ALL,
+    HAS_PARKING,        // 주차 가능 대수 > 0
+    NO_PLACE_RESERVE,   // 장소대여 예약 이력이 없는 학교
+    NO_PARKING_RESERVE  // 주차 예약 이력이 없는 학교
+}
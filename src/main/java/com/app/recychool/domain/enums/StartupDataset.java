@@ -0,0 +1,7 @@
+package com.app.recychool.domain.enums;
+
+// 기동 시 백그라운드로 적재하는 데이터 묶음
+public enum StartupDataset {
+    POLYGONS, // 행정구역 폴리곤 + 시도 인덱스 + 타일
+    SCHOOLS   // 학교 데이터 + 검색/지도/추천 인덱스
+}
@@ -0,0 +1,5 @@
+package com.app.recychool.domain.event;
+
+// 기동 시 폴리곤 적재(또는 변경 없음 확인)가 끝났을 때. 폴리곤 기반 인덱스가 이걸 받아 메모리에 올린다
+public record PolygonsLoadedEvent() {
+}
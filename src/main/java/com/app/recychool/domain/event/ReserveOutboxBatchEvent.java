@@ -0,0 +1,7 @@
+package com.app.recychool.domain.event;
+
+import java.util.List;
+
+// outbox poller가 커밋된 상태 변경을 모아서 발행하는 이벤트 (최소 1회 전달)
+public record ReserveOutboxBatchEvent(List<ReserveStatusChangedEvent> events) {
+}
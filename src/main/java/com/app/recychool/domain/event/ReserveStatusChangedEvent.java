@@ -0,0 +1,38 @@
+package com.app.recychool.domain.event;
+
+import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+
+import java.time.LocalDate;
+
+// 예약 상태 변경 이벤트 (fromStatus == null 이면 신규 생성)
+public record ReserveStatusChangedEvent(
+        Long reserveId,
+        Long schoolId,
+        ReserveType reserveType,
+        ReserveStatus fromStatus,
+        ReserveStatus toStatus,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    public static ReserveStatusChangedEvent of(Reserve reserve, ReserveStatus fromStatus) {
+        return new ReserveStatusChangedEvent(
+                reserve.getId(),
+                reserve.getSchool().getId(),
+                reserve.getReserveType(),
+                fromStatus,
+                reserve.getReserveStatus(),
+                reserve.getStartDate(),
+                reserve.getEndDate()
+        );
+    }
+
+    // 주차 자리를 차지하던 예약이 취소/만료되어 자리가 비었는지
+    public boolean releasesParkingSeat() {
+        return reserveType == ReserveType.PARKING
+                && (fromStatus == ReserveStatus.PENDING || fromStatus == ReserveStatus.COMPLETED)
+                && (toStatus == ReserveStatus.CANCELED || toStatus == ReserveStatus.EXPIRED);
+    }
+}
@@ -0,0 +1,15 @@
+package com.app.recychool.domain.event;
+
+import java.util.List;
+
+// 학교 데이터 변경 이벤트 (schoolIds 가 비어 있으면 전체 변경)
+public record SchoolsChangedEvent(List<Long> schoolIds) {
+
+    public static SchoolsChangedEvent all() {
+        return new SchoolsChangedEvent(List.of());
+    }
+
+    public boolean isFull() {
+        return schoolIds == null || schoolIds.isEmpty();
+    }
+}
@@ -2,8 +2,10 @@ package com.app.recychool.filter;
 
 import com.app.recychool.domain.dto.UserResponseDTO;
 import com.app.recychool.service.AuthService;
+import com.app.recychool.service.AuthTokenCache;
 import com.app.recychool.service.UserService;
 import com.app.recychool.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenUtil jwtTokenUtil;
     private final UserService userService;
     private final AuthService authService;
+    private final AuthTokenCache authTokenCache;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -39,40 +42,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return !path.startsWith("/private/");
     }
 
+    /*
+     * 캐시 hit: 서명 검증 / DB / Redis 없이 인증
+     * 캐시 miss: 서명 검증 + 클레임 파싱 1회, 회원 조회 1회, 블랙리스트 확인 1회 후 캐시에 저장
+     * 로그아웃(블랙리스트 등록)과 회원 정보 변경 시 AuthTokenCache 가 무효화된다.
+     */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String path = request.getRequestURI();
-        log.info("🔐 JWT 필터 진입: {}", path);
-        
+        log.debug("🔐 JWT 필터 진입: {}", path);
+
         String header = request.getHeader("Authorization");
-        String jwtToken = null;
-        String userEmail = null;
+        UserResponseDTO foundUser = null;
 
-        // 헤더에 심어져있는 userEmail을 가져온다
         if(header != null && header.startsWith("Bearer ")){
-            jwtToken = header.substring(7);
-            log.info("🔐 JWT 토큰 발견: {}", jwtToken.substring(0, Math.min(20, jwtToken.length())) + "...");
-            
-            boolean isValid = jwtTokenUtil.verifyJwtToken(jwtToken);
-            log.info("🔐 JWT 토큰 검증 결과: {}", isValid);
-            
-            if(isValid){
-                try {
-                    userEmail = (String)jwtTokenUtil.getUserEmailFromToken(jwtToken).get("userEmail");
-                    log.info("🔐 토큰에서 추출한 userEmail: {}", userEmail);
-                    
-                    // 블랙리스트 체크
-                    if(userEmail != null) {
-                        Long userId = userService.getUserIdByUserEmail(userEmail);
-                        if(authService.isBlacklistedAccessToken(jwtToken, userId)) {
-                            log.warn("🔐 블랙리스트에 등록된 토큰입니다: userId={}", userId);
+            String jwtToken = header.substring(7);
+
+            foundUser = authTokenCache.get(jwtToken);
+            if(foundUser == null) {
+                // 서명/만료 검증과 클레임 추출을 한 번에 (실패 시 null)
+                Claims claims = jwtTokenUtil.getUserEmailFromToken(jwtToken);
+                String userEmail = claims == null ? null : (String) claims.get("userEmail");
+                log.info("🔐 JWT 토큰 검증 결과: {}", userEmail != null);
+
+                if(userEmail != null) {
+                    try {
+                        long stamp = authTokenCache.stamp();
+                        UserResponseDTO user = userService.getUserByUserEmail(userEmail);
+
+                        // 블랙리스트 체크
+                        if(authService.isBlacklistedAccessToken(jwtToken, user.getId())) {
+                            log.warn("🔐 블랙리스트에 등록된 토큰입니다: userId={}", user.getId());
                             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                             response.getWriter().write("로그아웃된 토큰입니다. 다시 로그인하세요.");
                             return;
                         }
+
+                        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+                        authTokenCache.put(jwtToken, user, expiresAt, stamp);
+                        foundUser = user;
+                    } catch (Exception e) {
+                        log.error("🔐 사용자 조회 또는 인증 설정 실패", e);
                     }
-                } catch (Exception e) {
-                    log.error("🔐 토큰에서 userEmail 추출 실패", e);
                 }
             }
         } else {
@@ -80,26 +91,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 인증된 사용자 정보 객체를 생성하고 전달
-        if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            try {
-                Long userId = userService.getUserIdByUserEmail(userEmail);
-                log.info("🔐 userEmail로 찾은 userId: {}", userId);
-                
-                UserResponseDTO foundUser = userService.getUserById(userId);
-                log.info("🔐 찾은 사용자: {}", foundUser.getUserEmail());
-
-                if(jwtTokenUtil.verifyJwtToken(jwtToken)){
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(foundUser, null, List.of());
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                    log.info("🔐 SecurityContext에 Authentication 설정 완료");
-                }
-            } catch (Exception e) {
-                log.error("🔐 사용자 조회 또는 인증 설정 실패", e);
-            }
-        } else {
-            log.warn("🔐 인증 설정 실패 - userEmail: {}, 기존 인증: {}", userEmail, SecurityContextHolder.getContext().getAuthentication() != null);
+        if(foundUser != null && SecurityContextHolder.getContext().getAuthentication() == null){
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(foundUser, null, List.of());
+            SecurityContextHolder.getContext().setAuthentication(auth);
+        } else if(foundUser == null) {
+            log.warn("🔐 인증 설정 실패 - 기존 인증: {}", SecurityContextHolder.getContext().getAuthentication() != null);
         }
-        
+
         filterChain.doFilter(request, response);
     }
 }
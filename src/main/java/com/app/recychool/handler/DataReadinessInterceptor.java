@@ -0,0 +1,50 @@
+package com.app.recychool.handler;
+
+import com.app.recychool.domain.dto.ApiResponseDTO;
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.service.DataReadinessService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @RequiresData 가 붙은 API 는 해당 기동 데이터가 READY 가 될 때까지 503 + Retry-After
+@Component
+@RequiredArgsConstructor
+public class DataReadinessInterceptor implements HandlerInterceptor {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final DataReadinessService dataReadinessService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)) return true;
+
+        RequiresData requiresData = handlerMethod.getMethodAnnotation(RequiresData.class);
+        if (requiresData == null) {
+            requiresData = handlerMethod.getBeanType().getAnnotation(RequiresData.class);
+        }
+        if (requiresData == null) return true;
+
+        for (StartupDataset dataset : requiresData.value()) {
+            if (dataReadinessService.isReady(dataset)) continue;
+
+            response.setContentType("application/json; charset=UTF-8");
+            response.setCharacterEncoding("UTF-8");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+
+            ApiResponseDTO body = ApiResponseDTO.of("데이터 준비 중입니다. 잠시 후 다시 시도해주세요.", dataset);
+            response.getWriter().write(objectMapper.writeValueAsString(body));
+            response.getWriter().flush();
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.app.recychool.handler;
+
+import com.app.recychool.domain.enums.StartupDataset;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 기동 데이터가 준비되기 전에는 503 으로 응답할 API (메서드에 붙이면 클래스 설정보다 우선)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresData {
+
+    StartupDataset[] value();
+}
@@ -1,11 +1,15 @@
 package com.app.recychool.repository;
 
+import com.app.recychool.domain.dto.PolygonSourceDTO;
 import com.app.recychool.domain.entity.Polygons;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PolygonsRepository extends JpaRepository<Polygons, Long> {
 
@@ -16,4 +20,20 @@ public interface PolygonsRepository extends JpaRepository<Polygons, Long> {
 
     @Query("select p.polygonName from Polygons p")
     List<String> findAllPolygonNames();
+
+    // WGS84 변환 전에 적재된 행
+    @Query("select p.id from Polygons p where p.geoJsonWgs84 is null")
+    List<Long> findIdsWithoutWgs84();
+
+    // 타일 생성용: 이름 + WGS84 geometry 만 (원본 CLOB 제외)
+    @Query("select new com.app.recychool.domain.dto.PolygonSourceDTO(p.polygonName, p.geoJsonWgs84) from Polygons p order by p.id")
+    List<PolygonSourceDTO> findTileSources();
+
+    // 원본 GeoJSON 을 한 행씩 흘려보낸다 (트랜잭션 안에서 사용 후 close)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select p.geoJson from Polygons p order by p.id")
+    Stream<String> streamGeoJsons();
 }
@@ -0,0 +1,57 @@
+package com.app.recychool.repository;
+
+import com.app.recychool.domain.entity.ReserveOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReserveOutboxRepository extends JpaRepository<ReserveOutbox, Long> {
+
+    // 1단계: 발행 전 이벤트 id 를 잠금 없이 pageable 크기만큼
+    // (Oracle 은 행 수 제한(FETCH FIRST)과 FOR UPDATE 를 한 쿼리에 쓰면 ORA-02014 / 빈 배치가 된다)
+    @Query("""
+        SELECT o.id
+        FROM ReserveOutbox o
+        WHERE o.publishedAt IS NULL
+        ORDER BY o.id ASC
+    """)
+    public List<Long> findUnpublishedIds(Pageable pageable);
+
+    // 2단계: 고른 id 만 잠근다 (다른 서버가 잡고 있는 행은 건너뜀: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT o
+        FROM ReserveOutbox o
+        WHERE o.id IN :ids
+          AND o.publishedAt IS NULL
+        ORDER BY o.id ASC
+    """)
+    public List<ReserveOutbox> lockUnpublished(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE ReserveOutbox o
+        SET o.publishedAt = :publishedAt
+        WHERE o.id IN :ids
+    """)
+    public int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("""
+        DELETE FROM ReserveOutbox o
+        WHERE o.publishedAt < :before
+    """)
+    public int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,17 +1,26 @@
 package com.app.recychool.repository;
 
+import com.app.recychool.domain.dto.reserve.ParkingSeatDTO;
+import com.app.recychool.domain.dto.reserve.ReserveExpireTargetDTO;
+import com.app.recychool.domain.dto.reserve.ReservePrecheckDTO;
 import com.app.recychool.domain.entity.Reserve;
 import com.app.recychool.domain.entity.School;
 import com.app.recychool.domain.enums.ReserveStatus;
 import com.app.recychool.domain.enums.ReserveType;
+import jakarta.persistence.LockModeType;
 import org.apache.ibatis.annotations.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReserveRepository extends JpaRepository<Reserve, Long> {
@@ -42,6 +51,33 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
     """)
     public Integer findMaxWaitingOrder(Long schoolId, LocalDate startDate);
 
+    // 예약 생성 전 검증값 (사용자 존재 / 사용자 활성 예약 수 / 학교 대지면적 / 날짜 점유) 한 번에 조회
+    // 학교가 없으면 empty
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.reserve.ReservePrecheckDTO(
+            s.schoolLand,
+            (SELECT COUNT(u) FROM User u WHERE u.id = :userId),
+            (SELECT COUNT(ur) FROM Reserve ur
+              WHERE ur.user.id = :userId
+                AND ur.reserveType = :reserveType
+                AND ur.reserveStatus IN :statuses),
+            (SELECT COUNT(dr) FROM Reserve dr
+              WHERE dr.school.id = s.id
+                AND dr.reserveType = :reserveType
+                AND dr.reserveStatus IN :statuses
+                AND dr.startDate = :date)
+        )
+        FROM School s
+        WHERE s.id = :schoolId
+    """)
+    public Optional<ReservePrecheckDTO> findPrecheck(
+            @Param("userId") Long userId,
+            @Param("schoolId") Long schoolId,
+            @Param("reserveType") ReserveType reserveType,
+            @Param("statuses") List<ReserveStatus> statuses,
+            @Param("date") LocalDate date
+    );
+
     // 유저 제한
 
     // 주차: 유저 1건 제한
@@ -64,6 +100,19 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
             ReserveStatus reserveStatus
     );
 
+    @Query("""
+        SELECT r.startDate
+        FROM Reserve r
+        WHERE r.school.id = :schoolId
+          AND r.reserveType = :reserveType
+          AND r.reserveStatus = :reserveStatus
+    """)
+    public List<LocalDate> findStartDates(
+            @Param("schoolId") Long schoolId,
+            @Param("reserveType") ReserveType reserveType,
+            @Param("reserveStatus") ReserveStatus reserveStatus
+    );
+
     public long countBySchoolIdAndReserveTypeAndReserveStatusAndStartDate(
             Long schoolId,
             ReserveType reserveType,
@@ -86,6 +135,23 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
             @Param("date") LocalDate date
     );
 
+    // PARKING: [from, to] 구간과 겹치는 예약 구간 (캘린더 점유 수 계산용)
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.reserve.ParkingSeatDTO(r.school.id, r.startDate, r.endDate)
+        FROM Reserve r
+        WHERE r.school.id = :schoolId
+          AND r.reserveType = com.app.recychool.domain.enums.ReserveType.PARKING
+          AND r.reserveStatus = :status
+          AND r.startDate <= :to
+          AND r.endDate >= :from
+    """)
+    public List<ParkingSeatDTO> findParkingSeatsInRange(
+            @Param("schoolId") Long schoolId,
+            @Param("status") ReserveStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
     // 특정 날짜 대기열 전체
     @Query("""
     SELECT r
@@ -103,6 +169,57 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
             @Param("date") LocalDate date
     );
 
+    // 특정 날짜 대기열 앞에서부터 pageable 크기만큼
+    @Query("""
+    SELECT r
+    FROM Reserve r
+    WHERE r.school.id = :schoolId
+      AND r.reserveType = :reserveType
+      AND r.reserveStatus = :reserveStatus
+      AND r.startDate = :date
+    ORDER BY r.waitingOrder ASC
+    """)
+    public List<Reserve> findWaitingQueue(
+            @Param("schoolId") Long schoolId,
+            @Param("reserveType") ReserveType reserveType,
+            @Param("reserveStatus") ReserveStatus reserveStatus,
+            @Param("date") LocalDate date,
+            Pageable pageable
+    );
+
+    // 대기자가 있는 날짜 목록 (승격 대상)
+    @Query("""
+    SELECT DISTINCT r.startDate
+    FROM Reserve r
+    WHERE r.school.id = :schoolId
+      AND r.reserveType = com.app.recychool.domain.enums.ReserveType.PARKING
+      AND r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.WAITING
+      AND r.startDate >= :from
+    ORDER BY r.startDate ASC
+    """)
+    public List<LocalDate> findWaitingStartDates(
+            @Param("schoolId") Long schoolId,
+            @Param("from") LocalDate from
+    );
+
+    // 앞에서 count명이 승격된 뒤 남은 대기번호를 한 번에 당긴다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Reserve r
+        SET r.waitingOrder = r.waitingOrder - :count
+        WHERE r.school.id = :schoolId
+          AND r.reserveType = :reserveType
+          AND r.reserveStatus = :reserveStatus
+          AND r.startDate = :date
+    """)
+    public int pullWaitingOrders(
+            @Param("schoolId") Long schoolId,
+            @Param("reserveType") ReserveType reserveType,
+            @Param("reserveStatus") ReserveStatus reserveStatus,
+            @Param("date") LocalDate date,
+            @Param("count") Integer count
+    );
+
     // 특정 waitingOrder 뒤에 있는 대기자들
     @Query("""
         SELECT r
@@ -123,6 +240,25 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
             @Param("order") Integer order
     );
 
+    // 특정 waitingOrder 뒤의 대기번호를 한 번의 UPDATE로 당긴다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Reserve r
+        SET r.waitingOrder = r.waitingOrder - 1
+        WHERE r.school.id = :schoolId
+          AND r.reserveType = :reserveType
+          AND r.reserveStatus = :reserveStatus
+          AND r.startDate = :date
+          AND r.waitingOrder > :order
+    """)
+    public int shiftWaitingOrdersAfter(
+            @Param("schoolId") Long schoolId,
+            @Param("reserveType") ReserveType reserveType,
+            @Param("reserveStatus") ReserveStatus reserveStatus,
+            @Param("date") LocalDate date,
+            @Param("order") Integer order
+    );
+
     @Query("""
         SELECT r
         FROM Reserve r
@@ -131,6 +267,80 @@ public interface ReserveRepository extends JpaRepository<Reserve, Long> {
     """)
     public  List<Reserve> findCompletedAndExpired(@Param("today") LocalDate today);
 
+    // 만료 대상 keyset 페이지 (id > lastId 순서대로 pageable 크기만큼)
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.reserve.ReserveExpireTargetDTO(
+            r.id, r.school.id, r.reserveType, r.startDate, r.endDate
+        )
+        FROM Reserve r
+        WHERE r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.COMPLETED
+          AND r.endDate < :today
+          AND r.id > :lastId
+        ORDER BY r.id ASC
+    """)
+    public List<ReserveExpireTargetDTO> findExpireTargets(
+            @Param("today") LocalDate today,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    // 아직 COMPLETED 일 때만 만료 (조회 후 그 사이 취소됐으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Reserve r
+        SET r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.EXPIRED
+        WHERE r.id = :id
+          AND r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.COMPLETED
+    """)
+    public int expireIfCompleted(@Param("id") Long id);
+
+    // 결제 없이 cutoff 전부터 PENDING 인 주차 예약 (오래된 것부터 pageable 크기만큼)
+    // 장소대여(PLACE)는 ledger 자리를 잡지 않으므로 대상이 아니다
+    // pendingSince 가 없는 (컬럼 추가 전) 행은 생성 시각으로 판단
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.reserve.ReserveExpireTargetDTO(
+            r.id, r.school.id, r.reserveType, r.startDate, r.endDate
+        )
+        FROM Reserve r
+        WHERE r.reserveType = com.app.recychool.domain.enums.ReserveType.PARKING
+          AND r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.PENDING
+          AND COALESCE(r.pendingSince, r.createdAt) < :cutoff
+          AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.reserve = r)
+        ORDER BY r.id ASC
+    """)
+    public List<ReserveExpireTargetDTO> findStalePending(
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable
+    );
+
+    // 결제 확정용: PENDING 시간 초과 취소(cancelIfPending)와 같은 행을 동시에 바꾸지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reserve r WHERE r.id = :id")
+    public Optional<Reserve> findByIdForUpdate(@Param("id") Long id);
+
+    // 아직 PENDING 일 때만 취소 (그 사이 결제가 끝났으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Reserve r
+        SET r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.CANCELED
+        WHERE r.id = :id
+          AND r.reserveStatus = com.app.recychool.domain.enums.ReserveStatus.PENDING
+    """)
+    public int cancelIfPending(@Param("id") Long id);
+
+
+    // PARKING: 자리를 차지하고 있는 예약 구간 (ledger 적재 / 정합성 검사용)
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.reserve.ParkingSeatDTO(r.school.id, r.startDate, r.endDate)
+        FROM Reserve r
+        WHERE r.reserveType = com.app.recychool.domain.enums.ReserveType.PARKING
+          AND r.reserveStatus IN :statuses
+          AND r.endDate >= :today
+    """)
+    public List<ParkingSeatDTO> findParkingSeats(
+            @Param("statuses") List<ReserveStatus> statuses,
+            @Param("today") LocalDate today
+    );
 
     // 추가해야 하는 메서드
     List<Reserve> findByUserIdAndReserveTypeAndReserveStatus(
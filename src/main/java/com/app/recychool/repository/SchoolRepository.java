@@ -1,57 +1,108 @@
 package com.app.recychool.repository;
 
+import com.app.recychool.domain.dto.SchoolListDTO;
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
 import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.ReserveType;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SchoolRepository extends JpaRepository<School, Long> {
     boolean existsBySchoolName(String schoolName);
     Optional<School> findBySchoolName(String schoolName);
 
-    @Query(value = "SELECT t FROM ( SELECT s FROM TBL_School s WHERE s.schoolParkCount > 0 order by dbms_random.value ) t WHERE ROWNUM <= 4", nativeQuery = true)
-    List<School> findRandomSchoolWithParkLimit();
+    @Query("select s.schoolName from School s")
+    List<String> findAllSchoolNames();
 
-    @Query(value = "SELECT * FROM ( SELECT s.* FROM TBL_SCHOOL s WHERE NOT EXISTS( SELECT 1 FROM TBL_RESERVE r WHERE r.SCHOOL_ID = s.ID AND r.RESERVE_TYPE = 'PLACE' ) ORDER BY DBMS_RANDOM.VALUE(1, 4) ) WHERE ROWNUM <= 4",  nativeQuery = true)
-    List<School> findSchoolsWithoutPlaceReservation();
+    // 학교 목록 keyset 페이지 (id > cursor)
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.SchoolListDTO(
+            s.id, s.schoolCity, s.schoolName, s.schoolLand, s.schoolArea, s.schoolPhone, s.schoolAddress,
+            s.schoolLat, s.schoolLon, s.schoolParkCount, s.schoolRegion, s.schoolImagePath, s.schoolImageName
+        )
+        FROM School s
+        WHERE s.id > :cursor
+        ORDER BY s.id ASC
+    """)
+    List<SchoolListDTO> findListAfter(Long cursor, Pageable pageable);
+
+    // 지역(시도) 학교 목록 keyset 페이지 (SCHOOL_REGION 인덱스)
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.SchoolListDTO(
+            s.id, s.schoolCity, s.schoolName, s.schoolLand, s.schoolArea, s.schoolPhone, s.schoolAddress,
+            s.schoolLat, s.schoolLon, s.schoolParkCount, s.schoolRegion, s.schoolImagePath, s.schoolImageName
+        )
+        FROM School s
+        WHERE s.schoolRegion = :region
+        AND s.id > :cursor
+        ORDER BY s.id ASC
+    """)
+    List<SchoolListDTO> findListByRegionAfter(String region, Long cursor, Pageable pageable);
 
-    @Query(value = "SELECT * FROM ( SELECT s.* FROM TBL_SCHOOL s ORDER BY DBMS_RANDOM.VALUE(1, 4) ) WHERE ROWNUM <= 4", nativeQuery = true)
-    List<School> findFourRandomSchool();
+    long countBySchoolRegion(String schoolRegion);
 
+    @Modifying
+    @Query("update School s set s.schoolRegion = :region where s.id in :schoolIds " +
+            "and (s.schoolRegion is null or s.schoolRegion <> :region)")
+    int updateSchoolRegion(String region, Collection<Long> schoolIds);
 
-    //검색 후 나오는 학교들 ( place )
-    @Query(value = """
-    SELECT * FROM (
-        SELECT s.* FROM TBL_SCHOOL s 
-        WHERE NOT EXISTS (
-            SELECT 1 
-            FROM TBL_RESERVE r 
-            WHERE r.SCHOOL_ID = s.ID AND r.RESERVE_TYPE = 'PLACE'
-        )
-        AND s.SCHOOL_ADDRESS LIKE '%' || :region || '%'
-    ) 
-    WHERE ROWNUM <= 4
-    """, nativeQuery = true)
-    List<School> findSchoolsWithoutPlaceReservationByRegion(String region);
-
-    @Query(value = """
-    SELECT * FROM (
-        SELECT s.* FROM TBL_SCHOOL s 
-        WHERE NOT EXISTS (
-            SELECT 1 
-            FROM TBL_RESERVE r 
-            WHERE r.SCHOOL_ID = s.ID AND r.RESERVE_TYPE = 'PARKING'
+    // 어느 시도 폴리곤에도 속하지 않게 된 학교 (좌표 수정 / 좌표 없음)
+    @Modifying
+    @Query("update School s set s.schoolRegion = null where s.id in :schoolIds and s.schoolRegion is not null")
+    int clearSchoolRegion(Collection<Long> schoolIds);
+
+    // 학교 목록 전체를 커서로 흘려보낸다 (트랜잭션 안에서 사용 후 close)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("""
+        SELECT new com.app.recychool.domain.dto.SchoolListDTO(
+            s.id, s.schoolCity, s.schoolName, s.schoolLand, s.schoolArea, s.schoolPhone, s.schoolAddress,
+            s.schoolLat, s.schoolLon, s.schoolParkCount, s.schoolRegion, s.schoolImagePath, s.schoolImageName
         )
-        AND s.SCHOOL_ADDRESS LIKE '%' || :region || '%'
-    ) 
-    WHERE ROWNUM <= 4
-    """, nativeQuery = true)
-    List<School> findSchoolsWithoutParkingReservationByRegion(String region);
+        FROM School s
+        ORDER BY s.id ASC
+    """)
+    Stream<SchoolListDTO> streamList();
+
+    // 공간 인덱스용 좌표 (x = 경도, y = 위도)
+    @Query("select new com.app.recychool.domain.dto.reserve.SchoolMapDTO(s.id, s.schoolName, s.schoolLon, s.schoolLat) " +
+            "from School s where s.schoolLat is not null and s.schoolLon is not null")
+    List<SchoolMapDTO> findMapPoints();
+
+    @Query("select new com.app.recychool.domain.dto.reserve.SchoolMapDTO(s.id, s.schoolName, s.schoolLon, s.schoolLat) " +
+            "from School s where s.id in :schoolIds")
+    List<SchoolMapDTO> findMapPointsByIds(Collection<Long> schoolIds);
+
+    // 랜덤 추천 스냅샷용 id 조회 (SchoolSamplingService)
+    @Query("select s.id from School s")
+    List<Long> findAllIds();
+
+    @Query("select s.id from School s where s.schoolParkCount > 0")
+    List<Long> findIdsWithParking();
+
+    @Query("select s.id from School s where not exists (" +
+            "select 1 from Reserve r where r.school = s and r.reserveType = :reserveType)")
+    List<Long> findIdsWithoutReserve(ReserveType reserveType);
+
+    @Query("select distinct r.school.id from Reserve r " +
+            "where r.school.id in :schoolIds and r.reserveType = :reserveType")
+    List<Long> findIdsWithReserve(Collection<Long> schoolIds, ReserveType reserveType);
+
+
 
 
 
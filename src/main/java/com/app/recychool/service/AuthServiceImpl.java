@@ -34,6 +34,7 @@ public class AuthServiceImpl implements AuthService {
   private final JwtTokenUtil jwtTokenUtil;
   private final PasswordEncoder passwordEncoder;
   private final RedisTemplate redisTemplate;
+  private final AuthTokenCache authTokenCache;
 
   @Override
   public Map<String, String> login(User user) {
@@ -216,6 +217,8 @@ public class AuthServiceImpl implements AuthService {
         redisTemplate.opsForSet().add(key, accessToken);
         // 남은 만료 시간만큼 TTL 설정 (밀리초를 초로 변환)
         redisTemplate.expire(key, remainingTime / 1000, TimeUnit.SECONDS);
+        // 필터 로컬 캐시에서도 제거 (모든 인스턴스)
+        authTokenCache.evictToken(accessToken);
         return true;
       }
       return false;
@@ -0,0 +1,22 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.UserResponseDTO;
+
+// 검증이 끝난 access token → 사용자 (JwtAuthenticationFilter 전용 로컬 캐시)
+public interface AuthTokenCache {
+
+    // 캐시에 있고 만료 전이면 사용자, 아니면 null
+    public UserResponseDTO get(String accessToken);
+
+    // 사용자 조회 직전에 받아 두고 put 에 넘긴다 (조회 이후 무효화된 사용자는 캐시하지 않도록)
+    public long stamp();
+
+    // 서명/블랙리스트 확인을 통과한 토큰만 넣는다
+    public void put(String accessToken, UserResponseDTO user, long expiresAtMillis, long stamp);
+
+    // 로그아웃(블랙리스트 등록) 시. 모든 인스턴스에 전파
+    public void evictToken(String accessToken);
+
+    // 회원 정보 변경/탈퇴 시. 트랜잭션 안이면 커밋 후에 실행, 모든 인스턴스에 전파
+    public void evictUser(Long userId);
+}
@@ -0,0 +1,188 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.UserResponseDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 SHA-256 → (사용자, 만료 시각). 원본 토큰은 들고 있지 않는다.
+ * - 크기 제한: 접근 순서 LRU (app.jwt-cache.max-entries)
+ * - 만료: 토큰 만료와 app.jwt-cache.max-ttl-seconds 중 이른 쪽 (회원 정보가 오래 묵지 않도록)
+ * - 무효화: Redis pub/sub 채널로 모든 인스턴스에 전파.
+ *   필터가 블랙리스트를 확인한 뒤 put 하기 전에 로그아웃이 끼어들 수 있어서
+ *   무효화된 토큰 해시는 만료 전까지 revoked 에 남겨 다시 들어오지 못하게 한다.
+ * - 사용자 무효화는 커밋 후에 한다 (커밋 전에 지우면 그 사이 요청이 옛 값을 다시 채운다).
+ *   필터는 조회 직전에 stamp() 를 받아 두고, 그 뒤에 무효화된 사용자는 put 이 거절한다 (revokedUsers).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthTokenCacheImpl implements AuthTokenCache {
+
+    private static final String CHANNEL = "auth:token-cache:evict";
+    private static final String TOKEN_PREFIX = "token:";
+    private static final String USER_PREFIX = "user:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.jwt-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.jwt-cache.max-ttl-seconds:300}")
+    private long maxTtlSeconds;
+
+    private record Entry(UserResponseDTO user, long expiresAtMillis) {}
+
+    // 사용자 무효화 시점 (version) 과 기록을 지워도 되는 시각
+    private record Tombstone(long version, long expiresAtMillis) {}
+
+    // 아래 세 맵은 모두 this 로 잠근다
+    private Map<String, Entry> entries;
+    private final Map<String, Long> revoked = new HashMap<>();          // 토큰 해시 → 만료 시각
+    private final Map<Long, Tombstone> revokedUsers = new HashMap<>();  // 사용자 id → 무효화 기록
+    private final AtomicLong version = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onEvict(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public UserResponseDTO get(String accessToken) {
+        String key = hash(accessToken);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.user();
+        }
+    }
+
+    @Override
+    public long stamp() {
+        return version.get();
+    }
+
+    @Override
+    public void put(String accessToken, UserResponseDTO user, long expiresAtMillis, long stamp) {
+        String key = hash(accessToken);
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + maxTtlSeconds * 1000);
+
+        // 무효화 확인과 추가를 같은 잠금 안에서 (사이에 로그아웃/회원 변경이 끼어들지 않도록)
+        synchronized (this) {
+            if (revoked.containsKey(key)) return;
+            Tombstone tombstone = revokedUsers.get(user.getId());
+            if (tombstone != null && tombstone.version() > stamp) return;
+            entries.put(key, new Entry(user, expiresAt));
+        }
+    }
+
+    @Override
+    public void evictToken(String accessToken) {
+        String key = hash(accessToken);
+        removeToken(key);
+        publish(TOKEN_PREFIX + key);
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        if (userId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(userId);
+                    publish(USER_PREFIX + userId);
+                }
+            });
+            return;
+        }
+        removeUser(userId);
+        publish(USER_PREFIX + userId);
+    }
+
+    // 만료된 항목 / 무효화 기록 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            revokedUsers.values().removeIf(tombstone -> tombstone.expiresAtMillis() <= now);
+            entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        }
+    }
+
+    private void onEvict(String message) {
+        if (message.startsWith(TOKEN_PREFIX)) {
+            removeToken(message.substring(TOKEN_PREFIX.length()));
+        } else if (message.startsWith(USER_PREFIX)) {
+            try {
+                removeUser(Long.valueOf(message.substring(USER_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 토큰 캐시 무효화 메시지: {}", message);
+            }
+        }
+    }
+
+    private void removeToken(String key) {
+        // 캐시 항목이 없더라도 최대 TTL 동안은 다시 들어오지 못하게
+        synchronized (this) {
+            revoked.put(key, System.currentTimeMillis() + maxTtlSeconds * 1000);
+            entries.remove(key);
+        }
+    }
+
+    // 무효화 이전에 조회를 시작한 요청은 최대 TTL 동안 put 하지 못한다
+    private synchronized void removeUser(Long userId) {
+        revokedUsers.put(userId, new Tombstone(version.incrementAndGet(), System.currentTimeMillis() + maxTtlSeconds * 1000));
+        entries.values().removeIf(entry -> userId.equals(entry.user().getId()));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // Redis 장애 시 다른 인스턴스는 max-ttl 이 지나면 자연히 만료
+            log.warn("토큰 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
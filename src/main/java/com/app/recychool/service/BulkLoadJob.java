@@ -0,0 +1,124 @@
+package com.app.recychool.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 대량 적재 1건의 진행 상황.
+ * resumeFrom 은 이전 실행에서 커밋까지 끝난 단위 수 (CSV 는 레코드 수, 파일 적재는 파일 index).
+ * checkpoint() 가 불리면 BulkLoadJobService 가 SCHOOL_METADATA 에 기록한다.
+ */
+@Getter
+public class BulkLoadJob {
+
+    public enum Status { RUNNING, DONE, FAILED }
+
+    private final String name;
+    private final String source;
+    private final String fingerprint;
+    private final long totalBytes;
+    private final long resumeFrom;
+    private final long resumeBatch;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startedNanos = System.nanoTime();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile String lastError;
+    private volatile LocalDateTime updatedAt = startedAt;
+
+    // 체크포인트 저장 (detached 작업은 아무것도 하지 않음)
+    @Getter(AccessLevel.NONE)
+    private final Consumer<BulkLoadJob> checkpointSink;
+
+    BulkLoadJob(String name, String source, String fingerprint, long totalBytes, long resumeFrom, long resumeBatch,
+                Consumer<BulkLoadJob> checkpointSink) {
+        this.name = name;
+        this.source = source;
+        this.fingerprint = fingerprint;
+        this.totalBytes = totalBytes;
+        this.resumeFrom = resumeFrom;
+        this.resumeBatch = resumeBatch;
+        this.checkpointSink = checkpointSink;
+        this.committed.set(resumeFrom);
+        this.batches.set(resumeBatch);
+    }
+
+    // 체크포인트/진행 보고 없이 실행할 때 (테스트, 수동 호출)
+    public static BulkLoadJob detached(String name) {
+        return new BulkLoadJob(name, null, null, -1, 0, 0, job -> {});
+    }
+
+    // 처음부터 units 개까지 커밋됨을 기록
+    public void checkpoint(long units) {
+        committed.set(units);
+        batches.incrementAndGet();
+        updatedAt = LocalDateTime.now();
+        checkpointSink.accept(this);
+    }
+
+    void finish(Status status, String lastError) {
+        this.status = status;
+        this.lastError = lastError;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 읽은 바이트 수를 세는 스트림 (진행률/ETA 계산용)
+    public InputStream track(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) bytesRead.incrementAndGet();
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int off, int len) throws IOException {
+                int n = super.read(buffer, off, len);
+                if (n > 0) bytesRead.addAndGet(n);
+                return n;
+            }
+        };
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    // 이번 실행에서 커밋한 단위/초
+    public double unitsPerSecond() {
+        long elapsed = elapsedMillis();
+        return elapsed == 0 ? 0 : (committed.get() - resumeFrom) * 1000.0 / elapsed;
+    }
+
+    // 0 ~ 100, 전체 크기를 모르면 -1
+    public double percent() {
+        if (totalBytes <= 0) return -1;
+        if (status == Status.DONE) return 100;
+        return Math.min(100, bytesRead.get() * 100.0 / totalBytes);
+    }
+
+    // 지금까지 읽은 속도로 남은 바이트를 읽는 데 걸릴 시간, 알 수 없으면 -1
+    public long etaSeconds() {
+        long read = bytesRead.get();
+        long elapsed = elapsedMillis();
+        if (status != Status.RUNNING || totalBytes <= 0 || read == 0 || elapsed == 0) return -1;
+        return Math.max(0, (totalBytes - read) * elapsed / read / 1000);
+    }
+}
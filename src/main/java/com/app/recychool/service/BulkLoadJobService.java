@@ -0,0 +1,22 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.BulkLoadProgressDTO;
+
+import java.util.List;
+
+// 대량 적재 작업의 체크포인트(SCHOOL_METADATA)와 진행 상황 관리
+public interface BulkLoadJobService {
+
+    // 같은 source + 같은 내용(fingerprint)의 끝나지 않은 체크포인트가 있으면 그 위치부터 이어서 시작
+    // fingerprint 가 다르면 (경로는 같아도 파일이 바뀐 경우) 처음부터
+    public BulkLoadJob begin(String jobName, String source, String fingerprint, long totalBytes);
+
+    // 정상 종료. 다음 실행은 처음부터
+    public void complete(BulkLoadJob job);
+
+    // 실패. 체크포인트는 남겨 두고 다음 실행에서 이어받는다
+    public void fail(BulkLoadJob job, Exception e);
+
+    // 실행 중 + 이번 기동 이후 끝난 작업들
+    public List<BulkLoadProgressDTO> getProgress();
+}
@@ -0,0 +1,137 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.BulkLoadProgressDTO;
+import com.app.recychool.domain.entity.SchoolMetadata;
+import com.app.recychool.repository.SchoolMetadataRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 체크포인트는 SCHOOL_METADATA 에 "bulk-load:{작업명}" 키로 JSON 한 줄.
+ * 커밋된 배치 뒤에 기록하므로 체크포인트 이후 일부 행이 이미 들어가 있을 수 있다.
+ * 적재 쪽이 이름/해시로 중복을 거르기 때문에 다시 처리해도 결과는 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkLoadJobServiceImpl implements BulkLoadJobService {
+
+    private static final String KEY_PREFIX = "bulk-load:";
+
+    private final SchoolMetadataRepository schoolMetadataRepo;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, BulkLoadJob> jobs = new ConcurrentHashMap<>();
+
+    // SCHOOL_METADATA.meta_value 에 저장되는 값
+    // fingerprint 가 없는 예전 체크포인트는 이어받지 않는다
+    record Checkpoint(String source, String fingerprint, long committed, long batches, long inserted, long failed, String status) {}
+
+    @Override
+    public BulkLoadJob begin(String jobName, String source, String fingerprint, long totalBytes) {
+        BulkLoadJob running = jobs.get(jobName);
+        if (running != null && running.getStatus() == BulkLoadJob.Status.RUNNING) {
+            throw new IllegalStateException("이미 실행 중인 적재 작업: " + jobName);
+        }
+
+        Checkpoint checkpoint = readCheckpoint(jobName);
+        boolean resume = checkpoint != null
+                && !BulkLoadJob.Status.DONE.name().equals(checkpoint.status())
+                && Objects.equals(checkpoint.source(), source)
+                && fingerprint != null
+                && fingerprint.equals(checkpoint.fingerprint());
+
+        BulkLoadJob job = resume
+                ? new BulkLoadJob(jobName, source, fingerprint, totalBytes, checkpoint.committed(), checkpoint.batches(), this::writeCheckpoint)
+                : new BulkLoadJob(jobName, source, fingerprint, totalBytes, 0, 0, this::writeCheckpoint);
+        jobs.put(jobName, job);
+
+        if (resume) {
+            log.info("적재 작업 {} 이어서 시작: {} 부터 (배치 {})", jobName, checkpoint.committed(), checkpoint.batches());
+        } else if (checkpoint != null && !BulkLoadJob.Status.DONE.name().equals(checkpoint.status())) {
+            log.info("적재 작업 {} 처음부터 시작: 원본이 바뀌어 이전 체크포인트({}) 폐기", jobName, checkpoint.committed());
+        } else {
+            log.info("적재 작업 {} 시작: {}", jobName, source);
+        }
+        writeCheckpoint(job);
+        return job;
+    }
+
+    @Override
+    public void complete(BulkLoadJob job) {
+        job.finish(BulkLoadJob.Status.DONE, null);
+        writeCheckpoint(job);
+        log.info("적재 작업 {} 완료: committed={}, inserted={}, failed={}, {}ms",
+                job.getName(), job.getCommitted().get(), job.getInserted().get(), job.getFailed().get(), job.elapsedMillis());
+    }
+
+    @Override
+    public void fail(BulkLoadJob job, Exception e) {
+        job.finish(BulkLoadJob.Status.FAILED, e.getMessage());
+        writeCheckpoint(job);
+        log.error("적재 작업 {} 실패: {} 까지 커밋됨", job.getName(), job.getCommitted().get(), e);
+    }
+
+    @Override
+    public List<BulkLoadProgressDTO> getProgress() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(BulkLoadJob::getStartedAt).reversed())
+                .map(job -> BulkLoadProgressDTO.builder()
+                        .jobName(job.getName())
+                        .source(job.getSource())
+                        .status(job.getStatus().name())
+                        .resumedFrom(job.getResumeFrom())
+                        .committed(job.getCommitted().get())
+                        .batches(job.getBatches().get())
+                        .inserted(job.getInserted().get())
+                        .updated(job.getUpdated().get())
+                        .unchanged(job.getUnchanged().get())
+                        .skipped(job.getSkipped().get())
+                        .failed(job.getFailed().get())
+                        .unitsPerSecond(job.unitsPerSecond())
+                        .percent(job.percent())
+                        .etaSeconds(job.etaSeconds())
+                        .lastError(job.getLastError())
+                        .startedAt(job.getStartedAt())
+                        .updatedAt(job.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    private Checkpoint readCheckpoint(String jobName) {
+        return schoolMetadataRepo.findById(KEY_PREFIX + jobName)
+                .map(meta -> {
+                    try {
+                        return objectMapper.readValue(meta.getMetaValue(), Checkpoint.class);
+                    } catch (JsonProcessingException e) {
+                        log.warn("체크포인트 형식 오류, 처음부터 시작: {}", jobName);
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private void writeCheckpoint(BulkLoadJob job) {
+        Checkpoint checkpoint = new Checkpoint(job.getSource(), job.getFingerprint(), job.getCommitted().get(), job.getBatches().get(),
+                job.getInserted().get(), job.getFailed().get(), job.getStatus().name());
+        try {
+            schoolMetadataRepo.save(SchoolMetadata.builder()
+                    .metaKey(KEY_PREFIX + job.getName())
+                    .metaValue(objectMapper.writeValueAsString(checkpoint))
+                    .createAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
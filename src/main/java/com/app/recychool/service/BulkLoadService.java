@@ -2,77 +2,140 @@ package com.app.recychool.service;
 
 import com.app.recychool.domain.entity.Polygons;
 import com.app.recychool.repository.PolygonsRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.app.recychool.util.GeoJsonCrs;
+import com.app.recychool.util.GeoJsonFeatureReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.support.AbstractLobCreatingPreparedStatementCallback;
+import org.springframework.jdbc.support.lob.DefaultLobHandler;
+import org.springframework.jdbc.support.lob.LobCreator;
+import org.springframework.jdbc.support.lob.LobHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * 행정구역 GeoJSON 적재.
+ * 파일을 문자열로 읽지 않고 GeoJsonFeatureReader 로 feature 를 하나씩 받아 TBL_POLYGONS 에 한 행씩 넣는다.
+ * CLOB 은 character stream 으로 바인딩하고, batchSize 개 feature 마다 커밋하므로
+ * 힙 사용량은 파일 크기가 아니라 (가장 큰 feature * batchSize) 로 제한된다.
+ * 행 이름은 첫 feature 는 파일 이름, 이후는 "파일이름#순번" 이라 중간에 실패해도 다시 돌리면 이어서 넣는다.
+ * 적재하면서 좌표계를 판별해 WGS84 로 한 번 변환해 두고 (GEOJSON_WGS84), 원본(GEOJSON)도 그대로 남긴다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BulkLoadService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO TBL_POLYGONS (POLYGON_NAME, GEOJSON, GEOJSON_WGS84, SOURCE_SRID) VALUES (?, ?, ?, ?)";
+
     private final PolygonsRepository polygonsRepository;
     private final PlatformTransactionManager ptManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final LobHandler lobHandler = new DefaultLobHandler();
 
-    @PersistenceContext
-    private EntityManager em;
+    private record PendingFeature(String name, String geoJson, GeoJsonCrs.Normalized normalized) {}
 
-    public void loadFromClasspathPolygons(int batchSize) throws Exception {
+    // 새로 넣은 feature 수 반환
+    public int loadFromClasspathPolygons(int batchSize) throws IOException {
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
         Resource[] resources = resolver.getResources("classpath:polygons/*.geojson");
-        List<String> existing = polygonsRepository.findAllPolygonNames();
-        Set<String> existingSet = new HashSet<>(existing);
+        Set<String> existingSet = new HashSet<>(polygonsRepository.findAllPolygonNames());
 
         TransactionTemplate txTemplate = new TransactionTemplate(ptManager);
-
-        List<Polygons> buffer = new ArrayList<>(batchSize);
+        int inserted = 0;
 
         for (Resource r : resources) {
-            String content = new String(r.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
             String name = r.getFilename() != null ? r.getFilename().replace(".geojson", "") : "unknown";
-            if(existingSet.contains(name)){
-                log.info("이미 존재하는 파일: {}", name);
-                continue;
+            try (InputStream in = r.getInputStream()) {
+                inserted += loadFeatures(name, in, existingSet, txTemplate, batchSize);
             }
-            Polygons e = Polygons.builder()
-                    .polygonName(name)
-                    .geoJson(content)
-                    .build();
+        }
+        return inserted;
+    }
+
+    private int loadFeatures(String fileName, InputStream in, Set<String> existingSet,
+                             TransactionTemplate txTemplate, int batchSize) throws IOException {
+        List<PendingFeature> buffer = new ArrayList<>(batchSize);
+        int[] inserted = {0};
 
-            buffer.add(e);
+        int total = GeoJsonFeatureReader.read(in, (index, featureJson) -> {
+            String name = index == 0 ? fileName : fileName + "#" + index;
+            if (existingSet.contains(name)) return;
 
+            buffer.add(new PendingFeature(name, featureJson, GeoJsonCrs.normalize(name, featureJson)));
             if (buffer.size() >= batchSize) {
-                // 배치 저장: 각 배치는 별도 트랜잭션으로 처리
-                saveBatch(txTemplate, buffer);
-                buffer.clear();
+                inserted[0] += saveBatch(txTemplate, buffer, existingSet);
             }
-        }
-
-        // 남은 버퍼 저장
+        });
         if (!buffer.isEmpty()) {
-            saveBatch(txTemplate, buffer);
-            buffer.clear();
+            inserted[0] += saveBatch(txTemplate, buffer, existingSet);
         }
+
+        log.info("폴리곤 적재: {} features={}, inserted={}", fileName, total, inserted[0]);
+        return inserted[0];
     }
-    private void saveBatch(TransactionTemplate txTemplate, List<Polygons> batch) {
+
+    // 배치 저장: 각 배치는 별도 트랜잭션으로 처리
+    private int saveBatch(TransactionTemplate txTemplate, List<PendingFeature> batch, Set<String> existingSet) {
         txTemplate.executeWithoutResult(status -> {
-            polygonsRepository.saveAll(batch);
-            // 강제 flush + 영속성 컨텍스트 clear로 메모리 누수 방지
-            em.flush();
-            em.clear();
+            for (PendingFeature feature : batch) {
+                jdbcTemplate.execute(INSERT_SQL, new AbstractLobCreatingPreparedStatementCallback(lobHandler) {
+                    @Override
+                    protected void setValues(PreparedStatement ps, LobCreator lobCreator) throws SQLException {
+                        String wgs84 = feature.normalized().geoJsonWgs84();
+                        ps.setString(1, feature.name());
+                        lobCreator.setClobAsCharacterStream(ps, 2,
+                                new StringReader(feature.geoJson()), feature.geoJson().length());
+                        lobCreator.setClobAsCharacterStream(ps, 3, new StringReader(wgs84), wgs84.length());
+                        ps.setInt(4, feature.normalized().srid());
+                    }
+                });
+            }
         });
+
+        int saved = batch.size();
+        batch.forEach(feature -> existingSet.add(feature.name()));
+        batch.clear();
+        return saved;
+    }
+
+    // WGS84 변환 없이 적재된 기존 행을 한 행씩 변환. 변환한 행 수 반환
+    public int normalizeMissing() {
+        TransactionTemplate txTemplate = new TransactionTemplate(ptManager);
+        int normalized = 0;
+
+        for (Long id : polygonsRepository.findIdsWithoutWgs84()) {
+            Boolean done = txTemplate.execute(status -> {
+                Polygons polygons = polygonsRepository.findById(id).orElse(null);
+                if (polygons == null) return false;
+
+                try {
+                    GeoJsonCrs.Normalized result = GeoJsonCrs.normalize(polygons.getPolygonName(), polygons.getGeoJson());
+                    polygons.normalize(result.geoJsonWgs84(), result.srid());
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    log.warn("폴리곤 WGS84 변환 실패: {}", polygons.getPolygonName(), e);
+                    return false;
+                }
+            });
+            if (Boolean.TRUE.equals(done)) normalized++;
+        }
+        return normalized;
     }
 
 }
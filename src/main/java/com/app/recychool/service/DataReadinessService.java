@@ -0,0 +1,21 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.StartupDataset;
+
+import java.util.Map;
+
+// 백그라운드 적재 상태. 준비 전에는 해당 데이터를 쓰는 API 가 503 을 돌려준다
+public interface DataReadinessService {
+
+    public boolean isReady(StartupDataset dataset);
+
+    public void markReady(StartupDataset dataset);
+
+    // 적재는 실패했지만 기존 DB 행으로 인덱스를 만들어 요청은 받는 상태 (isReady = true)
+    public void markDegraded(StartupDataset dataset, Throwable cause);
+
+    public void markFailed(StartupDataset dataset, Throwable cause);
+
+    // 데이터 묶음별 LOADING / READY / DEGRADED / FAILED
+    public Map<StartupDataset, String> getStates();
+}
@@ -0,0 +1,51 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.StartupDataset;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class DataReadinessServiceImpl implements DataReadinessService {
+
+    private final Map<StartupDataset, String> states = new ConcurrentHashMap<>();
+
+    public DataReadinessServiceImpl() {
+        for (StartupDataset dataset : StartupDataset.values()) {
+            states.put(dataset, "LOADING");
+        }
+    }
+
+    @Override
+    public boolean isReady(StartupDataset dataset) {
+        String state = states.get(dataset);
+        return "READY".equals(state) || "DEGRADED".equals(state);
+    }
+
+    @Override
+    public void markReady(StartupDataset dataset) {
+        states.put(dataset, "READY");
+        log.info("기동 데이터 준비 완료: {}", dataset);
+    }
+
+    @Override
+    public void markDegraded(StartupDataset dataset, Throwable cause) {
+        states.put(dataset, "DEGRADED");
+        log.error("기동 데이터 적재 실패, 기존 데이터로 서비스: {}", dataset, cause);
+    }
+
+    @Override
+    public void markFailed(StartupDataset dataset, Throwable cause) {
+        states.put(dataset, "FAILED");
+        log.error("기동 데이터 적재 실패: {}", dataset, cause);
+    }
+
+    @Override
+    public Map<StartupDataset, String> getStates() {
+        return new EnumMap<>(states);
+    }
+}
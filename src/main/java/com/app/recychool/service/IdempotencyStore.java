@@ -0,0 +1,18 @@
+package com.app.recychool.service;
+
+import java.util.Optional;
+
+// Idempotency-Key → 응답(JSON) 저장소
+public interface IdempotencyStore {
+
+    // 처리 시작 표시. 이미 누가 처리 중이거나 처리 완료된 키면 false
+    public boolean tryBegin(String key);
+
+    // 처리 완료된 응답 (처리 중이거나 없으면 empty)
+    public Optional<String> getResponse(String key);
+
+    public void complete(String key, String responseJson);
+
+    // 처리 실패 시 시작 표시 제거 (재시도 가능하도록)
+    public void abandon(String key);
+}
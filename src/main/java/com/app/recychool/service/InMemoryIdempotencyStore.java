@@ -0,0 +1,57 @@
+package com.app.recychool.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 서버 / 테스트용 메모리 저장소 (app.idempotency.store=memory)
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record Entry(String response, long expiresAt) {
+        boolean expired(long now) {
+            return expiresAt < now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Override
+    public boolean tryBegin(String key) {
+        long now = System.currentTimeMillis();
+        Entry inProgress = new Entry(null, now + inProgressTtlSeconds * 1000);
+
+        Entry current = entries.compute(key, (k, old) -> old == null || old.expired(now) ? inProgress : old);
+        return current == inProgress;
+    }
+
+    @Override
+    public Optional<String> getResponse(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expired(System.currentTimeMillis())) return Optional.empty();
+        return Optional.ofNullable(entry.response());
+    }
+
+    @Override
+    public void complete(String key, String responseJson) {
+        entries.put(key, new Entry(responseJson, System.currentTimeMillis() + ttlHours * 60 * 60 * 1000));
+        // 만료된 키 정리
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expired(now));
+    }
+
+    @Override
+    public void abandon(String key) {
+        entries.remove(key);
+    }
+}
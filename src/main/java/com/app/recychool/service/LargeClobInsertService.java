@@ -18,9 +18,13 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,58 +38,83 @@ public class LargeClobInsertService {
     private final JdbcTemplate jdbcTemplate;
     private final PlatformTransactionManager txManager;
     private final PolygonsRepository  polygonsRepository;
+    private final BulkLoadJobService bulkLoadJobService;
     private final DefaultLobHandler lobHandler = new DefaultLobHandler();
 
     private final String INSERT_SQL = "INSERT INTO POLYGON_GEOJSON (NAME, GEOJSON) VALUES (?, ?)";
 
+    // 파일 이름순으로 batchSize 개씩 커밋하고, 커밋한 파일 index 를 체크포인트로 남긴다
     public void insertFilesInBatches(List<File> files, int batchSize) {
         TransactionTemplate txTemplate = new TransactionTemplate(txManager);
         List<String> existing = polygonsRepository.findAllPolygonNames();
         Set<String> existingSet = new HashSet<>(existing);
 
-        List<File> toInsert = files.stream()
-                .filter(file -> {
-                    String name = file.getName().replace(".geojson", "");
-                    if(existingSet.contains(name)) {
-                        log.info("중복된 파일: {}", name);
-                        return false;
-                    }
-                    return true;
-                })
+        List<File> sorted = files.stream()
+                .sorted(Comparator.comparing(File::getName))
                 .collect(Collectors.toList());
-
-        if(toInsert.isEmpty()) {
+        if (sorted.isEmpty()) {
             log.info("삽입 대상 파일이 없습니다.");
             return;
         }
 
-        for (int i = 0; i < toInsert.size(); i += batchSize) {
-            int end = Math.min(i + batchSize, toInsert.size());
-            List<File> sub = toInsert.subList(i, end);
-            log.info("Starting batch insert: files {}..{} (count={})", i, end - 1, sub.size());
+        long totalBytes = sorted.stream().mapToLong(File::length).sum();
+        String source = sorted.size() + " files: " + sorted.get(0).getName() + " .. " + sorted.get(sorted.size() - 1).getName();
+        // 파일 index 로 이어받으므로 파일 구성(이름/크기/수정 시각)이 같을 때만 체크포인트를 쓴다
+        BulkLoadJob job = bulkLoadJobService.begin("polygon-clob", source, fingerprint(sorted), totalBytes);
 
-            txTemplate.executeWithoutResult(status -> {
-                for (File f : sub) {
-                    String name = f.getName().replace(".geojson", "");
-                    try {
-                        if(existingSet.contains(name)) {
-                            log.info("이미 존재하므로 스킵합니다: {}", name);
-                            continue;
+        try {
+            int start = (int) Math.min(job.getResumeFrom(), sorted.size());
+            for (int i = start; i < sorted.size(); i += batchSize) {
+                int end = Math.min(i + batchSize, sorted.size());
+                List<File> sub = sorted.subList(i, end);
+                log.info("Starting batch insert: files {}..{} (count={})", i, end - 1, sub.size());
+
+                txTemplate.executeWithoutResult(status -> {
+                    for (File f : sub) {
+                        String name = f.getName().replace(".geojson", "");
+                        try {
+                            if(existingSet.contains(name)) {
+                                log.info("이미 존재하므로 스킵합니다: {}", name);
+                                job.getSkipped().incrementAndGet();
+                                continue;
+                            }
+                            insertSingleFileStreaming(f);
+                            log.info("파일 삽입: {}", f.getName());
+                            existingSet.add(name);
+                            job.getInserted().incrementAndGet();
+                        } catch (DataIntegrityViolationException dive) {
+                            // 배치 내 개별 파일 실패는 로그로 남기고 계속 진행하거나 필요시 예외를 던져 배치 롤백
+                            log.error("Failed to insert file {}: {}", f.getName(), dive.getMessage());
+                            job.getFailed().incrementAndGet();
+                            // 만약 배치 전체를 롤백하려면 throw new RuntimeException(ex);
+                        } catch (Exception e) {
+                            log.error("파일 삽입 실패: {}", f.getName(), e.getMessage());
+                            job.getFailed().incrementAndGet();
                         }
-                        insertSingleFileStreaming(f);
-                        log.info("파일 삽입: {}", f.getName());
-                        existingSet.add(name);
-                    } catch (DataIntegrityViolationException dive) {
-                        // 배치 내 개별 파일 실패는 로그로 남기고 계속 진행하거나 필요시 예외를 던져 배치 롤백
-                        log.error("Failed to insert file {}: {}", f.getName(), dive.getMessage());
-                        // 만약 배치 전체를 롤백하려면 throw new RuntimeException(ex);
-                    } catch (Exception e) {
-                        log.error("파일 삽입 실패: {}", f.getName(), e.getMessage());
                     }
-                }
-            });
+                });
+
+                job.getBytesRead().addAndGet(sub.stream().mapToLong(File::length).sum());
+                job.checkpoint(end);
+                log.info("Finished batch {}..{}", i, end - 1);
+            }
+            bulkLoadJobService.complete(job);
+        } catch (RuntimeException e) {
+            bulkLoadJobService.fail(job, e);
+            throw e;
+        }
+    }
 
-            log.info("Finished batch {}..{}", i, end - 1);
+    // 내용 전체를 해시하기엔 파일이 크므로 이름 + 크기 + 수정 시각으로 식별
+    private static String fingerprint(List<File> sorted) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (File f : sorted) {
+                digest.update((f.getName() + ":" + f.length() + ":" + f.lastModified() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
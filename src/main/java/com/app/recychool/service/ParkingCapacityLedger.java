@@ -0,0 +1,21 @@
+package com.app.recychool.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// 학교/날짜별 주차 자리 점유 현황 (PENDING + COMPLETED)
+public interface ParkingCapacityLedger {
+
+    // 시작일에 자리가 남아 있으면 startDate ~ endDate 구간의 자리를 점유하고 true
+    public boolean tryAdmit(Long schoolId, LocalDate startDate, LocalDate endDate, int capacity);
+
+    // 취소 / 만료로 비는 자리 반환 (트랜잭션 커밋 이후 반영)
+    public void release(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    public int getOccupied(Long schoolId, LocalDate date);
+
+    // DB 기준으로 ledger를 다시 맞춘다. 보정한 (학교, 날짜) 수를 반환
+    public int reconcile();
+
+    public Map<LocalDate, Integer> snapshot(Long schoolId);
+}
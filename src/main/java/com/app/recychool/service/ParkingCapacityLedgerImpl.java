@@ -0,0 +1,235 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.ParkingSeatDTO;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.repository.ReserveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학교별로 "날짜 → 점유 대수" 맵을 메모리에 들고 있는 주차 수용량 ledger.
+ * 학교 단위로만 잠그기 때문에 서로 다른 학교의 예약은 경합하지 않는다.
+ * 주차 예약은 최대 한 달(약 31일) 구간이므로 점유/반환 비용은 상수다.
+ *
+ * reconcile 은 잠금 없이 DB 스냅샷을 읽기 때문에, 스냅샷과 다른 값을 덮어쓰면
+ * 아직 커밋 전인 점유나 커밋 직후 반영 전인 반환이 지워질 수 있다.
+ * 그래서 날짜마다 마지막으로 바뀐 epoch 와 진행 중인 변경 수를 기록해 두고,
+ * 스냅샷을 읽기 시작한 뒤 바뀌었거나 진행 중인 변경이 있는 날짜는 건드리지 않는다 (다음 주기에 다시 비교).
+ * 진행 중: 점유는 tryAdmit 부터, 반환은 release 부터 각각 트랜잭션이 끝날(afterCompletion) 때까지.
+ * 반환은 afterCommit 에 반영되므로, 커밋 직후 ~ afterCommit 사이에 읽은 스냅샷도 이 구간 안에 든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkingCapacityLedgerImpl implements ParkingCapacityLedger {
+
+    private static final List<ReserveStatus> SEAT_STATUSES =
+            List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED);
+
+    private final ReserveRepository reserveRepository;
+
+    private final ConcurrentHashMap<Long, Seats> ledger = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    // 학교 하나의 점유 현황 (이 객체로 잠근다)
+    private static class Seats {
+        final Map<LocalDate, Integer> days = new HashMap<>();
+        final Map<LocalDate, Integer> inFlight = new HashMap<>();  // 트랜잭션이 아직 안 끝난 점유 / 반환 수
+        final Map<LocalDate, Long> changedAt = new HashMap<>();    // 마지막으로 바뀐 epoch
+    }
+
+    // 서버 기동 시 TBL_RESERVE 기준으로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int fixed = reconcile();
+        log.info("주차 ledger 적재 완료: schools={}, entries={}", ledger.size(), fixed);
+    }
+
+    // 10분마다 DB와 비교해서 어긋난 값 보정
+    @Scheduled(cron = "0 */10 * * * *")
+    public void scheduledReconcile() {
+        int fixed = reconcile();
+        if (fixed > 0) {
+            log.warn("주차 ledger 보정: {}건", fixed);
+        }
+    }
+
+    @Override
+    public boolean tryAdmit(Long schoolId, LocalDate startDate, LocalDate endDate, int capacity) {
+        Seats seats = seatsOf(schoolId);
+        boolean tracked = TransactionSynchronizationManager.isSynchronizationActive();
+
+        synchronized (seats) {
+            if (seats.days.getOrDefault(startDate, 0) >= capacity) {
+                return false;
+            }
+            apply(seats.days, startDate, endDate, 1);
+            touch(seats, startDate, endDate, tracked ? 1 : 0);
+        }
+
+        // 예약 저장이 롤백되면 점유했던 자리도 되돌린다
+        if (tracked) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (seats) {
+                        if (status != STATUS_COMMITTED) {
+                            apply(seats.days, startDate, endDate, -1);
+                        }
+                        touch(seats, startDate, endDate, -1);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public void release(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        // 상태 변경이 커밋된 뒤에만 자리를 돌려준다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋된 DB 와 아직 반영 전인 ledger 가 어긋나는 동안 reconcile 이 두 번 빼지 않도록 진행 중으로 표시
+            Seats seats = seatsOf(schoolId);
+            synchronized (seats) {
+                touch(seats, startDate, endDate, 1);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(schoolId, startDate, endDate);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (seats) {
+                        touch(seats, startDate, endDate, -1);
+                    }
+                }
+            });
+            return;
+        }
+        releaseNow(schoolId, startDate, endDate);
+    }
+
+    @Override
+    public int getOccupied(Long schoolId, LocalDate date) {
+        Seats seats = ledger.get(schoolId);
+        if (seats == null) return 0;
+        synchronized (seats) {
+            return seats.days.getOrDefault(date, 0);
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        LocalDate today = LocalDate.now();
+        // 이 값 이후에 바뀐 날짜는 스냅샷에 반영됐는지 알 수 없으므로 건너뛴다
+        long snapshotEpoch = epoch.incrementAndGet();
+
+        // DB 기준 점유 현황
+        Map<Long, Map<LocalDate, Integer>> expected = new HashMap<>();
+        for (ParkingSeatDTO seat : reserveRepository.findParkingSeats(SEAT_STATUSES, today)) {
+            LocalDate from = seat.getStartDate().isBefore(today) ? today : seat.getStartDate();
+            apply(expected.computeIfAbsent(seat.getSchoolId(), id -> new HashMap<>()), from, seat.getEndDate(), 1);
+        }
+
+        Set<Long> schoolIds = new HashSet<>(ledger.keySet());
+        schoolIds.addAll(expected.keySet());
+
+        int fixed = 0;
+        int deferred = 0;
+        for (Long schoolId : schoolIds) {
+            Map<LocalDate, Integer> want = expected.getOrDefault(schoolId, Map.of());
+            Seats seats = seatsOf(schoolId);
+
+            synchronized (seats) {
+                // 지난 날짜는 더 이상 의미가 없으므로 정리
+                seats.days.keySet().removeIf(date -> date.isBefore(today));
+                seats.changedAt.keySet().removeIf(date -> date.isBefore(today));
+
+                Set<LocalDate> dates = new HashSet<>(seats.days.keySet());
+                dates.addAll(want.keySet());
+                for (LocalDate date : dates) {
+                    int actual = seats.days.getOrDefault(date, 0);
+                    int target = want.getOrDefault(date, 0);
+                    if (actual == target) continue;
+
+                    if (seats.inFlight.getOrDefault(date, 0) > 0
+                            || seats.changedAt.getOrDefault(date, 0L) >= snapshotEpoch) {
+                        deferred++;
+                        continue;
+                    }
+                    fixed++;
+                    if (target == 0) seats.days.remove(date);
+                    else seats.days.put(date, target);
+                }
+            }
+        }
+        if (deferred > 0) {
+            log.debug("주차 ledger 보정 보류 (스냅샷 이후 변경): {}건", deferred);
+        }
+        return fixed;
+    }
+
+    @Override
+    public Map<LocalDate, Integer> snapshot(Long schoolId) {
+        Seats seats = ledger.get(schoolId);
+        if (seats == null) return Map.of();
+        synchronized (seats) {
+            return Map.copyOf(seats.days);
+        }
+    }
+
+    private Seats seatsOf(Long schoolId) {
+        return ledger.computeIfAbsent(schoolId, id -> new Seats());
+    }
+
+    private void releaseNow(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        Seats seats = ledger.get(schoolId);
+        if (seats == null) return;
+        synchronized (seats) {
+            apply(seats.days, startDate, endDate, -1);
+            touch(seats, startDate, endDate, 0);
+        }
+    }
+
+    // 구간의 변경 epoch 기록 + 진행 중 점유 수 증감 (seats 잠금 안에서 호출)
+    private void touch(Seats seats, LocalDate startDate, LocalDate endDate, int inFlightDelta) {
+        long now = epoch.get();
+        LocalDate date = startDate;
+        while (!date.isAfter(endDate)) {
+            seats.changedAt.put(date, now);
+            if (inFlightDelta != 0) {
+                int next = seats.inFlight.getOrDefault(date, 0) + inFlightDelta;
+                if (next <= 0) seats.inFlight.remove(date);
+                else seats.inFlight.put(date, next);
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    private void apply(Map<LocalDate, Integer> days, LocalDate startDate, LocalDate endDate, int delta) {
+        LocalDate date = startDate;
+        while (!date.isAfter(endDate)) {
+            int next = days.getOrDefault(date, 0) + delta;
+            if (next <= 0) days.remove(date);
+            else days.put(date, next);
+            date = date.plusDays(1);
+        }
+    }
+}
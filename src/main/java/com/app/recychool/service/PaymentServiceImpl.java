@@ -7,11 +7,13 @@ import com.app.recychool.domain.entity.Payment;
 import com.app.recychool.domain.entity.Reserve;
 import com.app.recychool.domain.enums.ReserveStatus;
 import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
 import com.app.recychool.domain.type.PaymentStatus;
 import com.app.recychool.exception.PaymentAlreadyProcessedException;
 import com.app.recychool.repository.PaymentRepository;
 import com.app.recychool.repository.ReserveRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +26,13 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final ReserveRepository reserveRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public PaymentCompleteResponseDTO completePayment(PaymentCompleteRequestDTO requestDTO) {
 
-        // 1) 예약 조회
-        Reserve reserve = reserveRepository.findById(requestDTO.getReserveId())
+        // 1) 예약 조회 (PENDING 시간 초과 취소와 겹치지 않게 잠금)
+        Reserve reserve = reserveRepository.findByIdForUpdate(requestDTO.getReserveId())
                 .orElseThrow(() ->
                         new IllegalArgumentException("예약이 존재하지 않습니다. reserveId=" + requestDTO.getReserveId())
                 );
@@ -89,6 +92,7 @@ public class PaymentServiceImpl implements PaymentService {
         // 6) 예약 상태 업데이트
         if (!requestDTO.isExtend()) {
             reserve.setReserveStatus(ReserveStatus.COMPLETED);
+            eventPublisher.publishEvent(ReserveStatusChangedEvent.of(reserve, ReserveStatus.PENDING));
         }
 
         return new PaymentCompleteResponseDTO(
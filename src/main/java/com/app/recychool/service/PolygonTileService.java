@@ -0,0 +1,17 @@
+package com.app.recychool.service;
+
+import java.util.function.Consumer;
+
+// 행정구역 폴리곤 응답 (줌별 단순화 + 좌표 양자화 + gzip 미리 계산)
+public interface PolygonTileService {
+
+    // json: 원본 바이트, gzipped: 미리 압축한 바이트, etag: 내용 해시
+    public record Tile(int zoom, byte[] json, byte[] gzipped, String etag) {}
+
+    public Tile getTile(int zoom);
+
+    // 원본 GeoJSON 문자열을 DB 에서 한 건씩 넘긴다 (기존 /polygons/find 응답, 메모리에 들고 있지 않음)
+    public void streamRawGeoJsons(Consumer<String> consumer);
+
+    public void rebuild();
+}
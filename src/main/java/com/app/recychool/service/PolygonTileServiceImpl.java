@@ -0,0 +1,155 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.PolygonSourceDTO;
+import com.app.recychool.domain.event.PolygonsLoadedEvent;
+import com.app.recychool.repository.PolygonsRepository;
+import com.app.recychool.util.GeoJsonParser;
+import com.app.recychool.util.GeoJsonWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 줌 레벨마다 폴리곤을 1픽셀 허용오차로 TopologyPreservingSimplifier 단순화하고,
+ * 좌표를 허용오차 절반 이하의 10의 거듭제곱 단위로 반올림해서 FeatureCollection 하나로 직렬화한다.
+ * 결과는 원본 / gzip 바이트와 ETag 로 미리 만들어 두고 요청마다 그대로 내려준다.
+ * 적재 시 WGS84 로 변환해 둔 geometry (GEOJSON_WGS84) 를 쓰므로 요청 경로에서 좌표 변환은 없다.
+ * 원본 GEOJSON CLOB 은 들고 있지 않고 /polygons/find 요청마다 DB 에서 흘려보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolygonTileServiceImpl implements PolygonTileService {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_ZOOM = 14;
+
+    // Web Mercator 줌 0 의 픽셀당 미터 (위도 37.5도 기준)
+    private static final double METERS_PER_PIXEL_Z0 = 156_543.03392 * Math.cos(Math.toRadians(37.5));
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final PolygonsRepository polygonsRepository;
+
+    private volatile Map<Integer, Tile> tiles = Map.of();
+
+    private record Source(String name, Map<String, String> properties, Geometry geometry) {}
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(PolygonsLoadedEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        List<Source> sources = new ArrayList<>();
+        for (PolygonSourceDTO polygons : polygonsRepository.findTileSources()) {
+            if (polygons.getGeoJsonWgs84() == null) {
+                log.warn("WGS84 변환 전 폴리곤은 건너뜀: {}", polygons.getPolygonName());
+                continue;
+            }
+            try {
+                for (GeoJsonParser.Feature feature : GeoJsonParser.parseFeatures(polygons.getGeoJsonWgs84())) {
+                    sources.add(new Source(polygons.getPolygonName(), feature.properties(), feature.geometry()));
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("폴리곤 파싱 실패: {}", polygons.getPolygonName(), e);
+            }
+        }
+
+        Map<Integer, Tile> built = new HashMap<>();
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            byte[] json = writeFeatureCollection(sources, zoom);
+            built.put(zoom, new Tile(zoom, json, gzip(json), etag(json)));
+        }
+
+        tiles = built;
+        log.info("폴리곤 타일 생성: polygons={}, z{}={}B(gzip {}B), z{}={}B(gzip {}B)",
+                sources.size(),
+                MIN_ZOOM, built.get(MIN_ZOOM).json().length, built.get(MIN_ZOOM).gzipped().length,
+                MAX_ZOOM, built.get(MAX_ZOOM).json().length, built.get(MAX_ZOOM).gzipped().length);
+    }
+
+    @Override
+    public Tile getTile(int zoom) {
+        return tiles.get(Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRawGeoJsons(Consumer<String> consumer) {
+        try (Stream<String> stream = polygonsRepository.streamGeoJsons()) {
+            stream.forEach(consumer);
+        }
+    }
+
+    private byte[] writeFeatureCollection(List<Source> sources, int zoom) {
+        // 1픽셀 허용오차 (위도 기준 도 단위)
+        double tolerance = METERS_PER_PIXEL_Z0 / (1L << zoom) / METERS_PER_DEGREE;
+        double quantum = Math.pow(10, Math.floor(Math.log10(tolerance / 2)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "FeatureCollection");
+            generator.writeArrayFieldStart("features");
+
+            for (Source source : sources) {
+                Geometry simplified = TopologyPreservingSimplifier.simplify(source.geometry(), tolerance);
+
+                Map<String, String> properties = new LinkedHashMap<>();
+                properties.put("name", source.name());
+                properties.putAll(source.properties());
+                GeoJsonWriter.writeFeature(generator, properties, simplified, quantum);
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.app.recychool.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 여러 서버가 공유하는 Redis 저장소 (기본값)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "redis", matchIfMissing = true)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idem:";
+    private static final String IN_PROGRESS = "__IN_PROGRESS__";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 처리 중 표시는 짧게 (서버가 죽어도 곧 풀리도록)
+    @Value("${app.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Override
+    public boolean tryBegin(String key) {
+        Boolean began = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, IN_PROGRESS, Duration.ofSeconds(inProgressTtlSeconds));
+        return Boolean.TRUE.equals(began);
+    }
+
+    @Override
+    public Optional<String> getResponse(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value == null || IN_PROGRESS.equals(value)) return Optional.empty();
+        return Optional.of(value);
+    }
+
+    @Override
+    public void complete(String key, String responseJson) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, responseJson, Duration.ofHours(ttlHours));
+    }
+
+    @Override
+    public void abandon(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
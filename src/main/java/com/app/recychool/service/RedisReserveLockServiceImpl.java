@@ -0,0 +1,142 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.exception.ReserveException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 서버가 같은 DB를 쓸 때 사용하는 Redis 락 (app.reserve.lock=redis).
+ * SET NX PX 로 잡고, 내가 잡은 락인지 확인한 뒤에만 지운다.
+ * 트랜잭션이 lease 보다 길어질 수 있으므로 잡고 있는 동안 lease/3 마다 만료시간을 늘리고,
+ * 커밋 직전에 한 번 더 확인해 그 사이 락을 잃었으면 예외로 롤백시킨다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reserve.lock", havingValue = "redis")
+public class RedisReserveLockServiceImpl implements ReserveLockService {
+
+    private static final String KEY_PREFIX = "lock:reserve:";
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    // 내 토큰일 때만 만료시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.reserve.lock-wait-ms:3000}")
+    private long waitMillis;
+
+    // 서버가 죽어도 락이 영원히 남지 않도록 만료시간을 둔다
+    @Value("${app.reserve.lock-lease-ms:10000}")
+    private long leaseMillis;
+
+    // 연장 요청은 짧은 Redis 호출뿐이라 스레드 하나로 충분하다
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reserve-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    @Override
+    public void lockUntilCompletion(Long schoolId, LocalDate date, ReserveType reserveType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("예약 락은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        String key = KEY_PREFIX + schoolId + ":" + date + ":" + reserveType.name();
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        while (true) {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(key, token, Duration.ofMillis(leaseMillis));
+            if (Boolean.TRUE.equals(acquired)) break;
+
+            if (System.currentTimeMillis() >= deadline) {
+                throw new ReserveException("예약 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReserveException("예약 처리 중 중단되었습니다.");
+            }
+        }
+
+        AtomicBoolean lost = new AtomicBoolean();
+        long renewEvery = Math.max(1, leaseMillis / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> {
+            boolean renewed;
+            try {
+                renewed = renew(key, token);
+            } catch (Exception e) {
+                // 일시적인 Redis 오류는 다음 주기에 다시 시도 (커밋 직전 확인에서 최종 판단)
+                log.warn("예약 락 연장 실패: {}", key, e);
+                return;
+            }
+            if (!renewed) {
+                lost.set(true);
+                log.warn("예약 락 lease 가 만료되어 다른 요청에 넘어갔습니다: {}", key);
+                throw new IllegalStateException("예약 락 유실: " + key); // 예외로 반복 실행을 멈춘다
+            }
+        }, renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 락 없이 커밋하면 확인 → 저장 구간이 다른 요청과 겹칠 수 있다
+                if (lost.get() || !renew(key, token)) {
+                    throw new ReserveException("예약 처리 시간이 초과되었습니다. 다시 시도해주세요.");
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                renewal.cancel(false);
+                try {
+                    redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+                } catch (Exception e) {
+                    // 해제 실패 시에도 lease가 지나면 풀린다
+                    log.warn("예약 락 해제 실패: {}", key, e);
+                }
+            }
+        });
+    }
+
+    private boolean renew(String key, String token) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(leaseMillis));
+        return renewed != null && renewed == 1L;
+    }
+}
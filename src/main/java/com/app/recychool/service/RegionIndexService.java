@@ -0,0 +1,22 @@
+package com.app.recychool.service;
+
+import java.util.Collection;
+import java.util.List;
+
+// TBL_POLYGONS 행정구역 경계로 좌표가 속한 시도를 찾는다
+public interface RegionIndexService {
+
+    // (lat, lon) 을 포함하는 행정구역 이름들 (없으면 빈 리스트)
+    public List<String> regionsOf(double lat, double lon);
+
+    // 첫 번째 행정구역 이름 (없으면 null)
+    public String regionOf(double lat, double lon);
+
+    public List<String> getRegionNames();
+
+    // 폴리곤을 다시 읽고 전체 학교의 schoolRegion 을 다시 채운다
+    public void reload();
+
+    // 주어진 학교들의 schoolRegion 을 채운다. 변경한 학교 수 반환
+    public int tagSchools(Collection<Long> schoolIds);
+}
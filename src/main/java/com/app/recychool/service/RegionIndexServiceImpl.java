@@ -0,0 +1,195 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
+import com.app.recychool.domain.entity.Polygons;
+import com.app.recychool.domain.event.PolygonsLoadedEvent;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.repository.PolygonsRepository;
+import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.util.GeoJsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 행정구역 폴리곤 인덱스.
+ * TBL_POLYGONS 의 GeoJSON 을 한 번만 파싱해서 PreparedGeometry 로 들고 있고,
+ * 좌표 조회 시 envelope 로 먼저 거른 뒤 포함 여부를 확인한다.
+ * 적재 시 WGS84 로 변환해 둔 geometry (GEOJSON_WGS84) 를 쓰므로 학교 좌표를 그대로 비교한다.
+ * 학교마다 속한 시도를 TBL_SCHOOL.SCHOOL_REGION 에 채워서 지역 필터를 인덱스 동등 조건으로 조회하게 한다.
+ */
+@Slf4j
+@Service
+public class RegionIndexServiceImpl implements RegionIndexService {
+
+    // 시도 코드 (CTPRVN_CD) → 이름. 폴리곤 파일의 한글 이름 인코딩이 깨져 있어 코드로 매핑
+    private static final Map<String, String> PROVINCE_NAMES = Map.ofEntries(
+            Map.entry("11", "서울특별시"),
+            Map.entry("26", "부산광역시"),
+            Map.entry("27", "대구광역시"),
+            Map.entry("28", "인천광역시"),
+            Map.entry("29", "광주광역시"),
+            Map.entry("30", "대전광역시"),
+            Map.entry("31", "울산광역시"),
+            Map.entry("36", "세종특별자치시"),
+            Map.entry("41", "경기도"),
+            Map.entry("42", "강원도"),
+            Map.entry("43", "충청북도"),
+            Map.entry("44", "충청남도"),
+            Map.entry("45", "전라북도"),
+            Map.entry("46", "전라남도"),
+            Map.entry("47", "경상북도"),
+            Map.entry("48", "경상남도"),
+            Map.entry("50", "제주특별자치도"),
+            Map.entry("51", "강원특별자치도"),
+            Map.entry("52", "전북특별자치도")
+    );
+
+    // Oracle IN 목록 최대 1000개
+    private static final int UPDATE_CHUNK = 1000;
+
+    private final PolygonsRepository polygonsRepository;
+    private final SchoolRepository schoolRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    private volatile List<Region> regions = List.of();
+
+    private record Region(String name, PreparedGeometry geometry, Envelope envelope) {}
+
+    public RegionIndexServiceImpl(PolygonsRepository polygonsRepository,
+                                  SchoolRepository schoolRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.polygonsRepository = polygonsRepository;
+        this.schoolRepository = schoolRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(PolygonsLoadedEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        List<Region> loaded = new ArrayList<>();
+        for (Polygons polygons : polygonsRepository.findAll()) {
+            if (polygons.getGeoJsonWgs84() == null) {
+                log.warn("WGS84 변환 전 폴리곤은 건너뜀: {}", polygons.getPolygonName());
+                continue;
+            }
+            try {
+                for (GeoJsonParser.Feature feature : GeoJsonParser.parseFeatures(polygons.getGeoJsonWgs84())) {
+                    loaded.add(toRegion(polygons.getPolygonName(), feature));
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("행정구역 폴리곤 파싱 실패: {}", polygons.getPolygonName(), e);
+            }
+        }
+        regions = loaded;
+
+        int tagged = tagSchools(null);
+        log.info("행정구역 인덱스 적재: regions={}, taggedSchools={}", loaded.size(), tagged);
+    }
+
+    @Override
+    public List<String> regionsOf(double lat, double lon) {
+        Coordinate coordinate = new Coordinate(lon, lat);
+        Point point = geometryFactory.createPoint(coordinate);
+
+        List<String> result = new ArrayList<>();
+        for (Region region : regions) {
+            if (!region.envelope().contains(coordinate)) continue;
+
+            if (region.geometry().covers(point)) result.add(region.name());
+        }
+        return result;
+    }
+
+    @Override
+    public String regionOf(double lat, double lon) {
+        List<String> found = regionsOf(lat, lon);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    @Override
+    public List<String> getRegionNames() {
+        return regions.stream().map(Region::name).distinct().toList();
+    }
+
+    // 학교 적재 후 새 학교에 지역을 채운다 (원래 트랜잭션은 이미 커밋됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        tagSchools(event.isFull() ? null : event.schoolIds());
+    }
+
+    // schoolIds == null 이면 전체
+    @Override
+    public int tagSchools(Collection<Long> schoolIds) {
+        // 폴리곤이 아직 적재 전이면 모두 "지역 없음" 이 되므로 건너뛴다 (reload 가 전체를 다시 태깅)
+        if (regions.isEmpty()) return 0;
+
+        List<SchoolMapDTO> schools = schoolIds == null
+                ? schoolRepository.findMapPoints()
+                : schoolRepository.findMapPointsByIds(schoolIds);
+
+        Map<String, List<Long>> byRegion = new HashMap<>();
+        List<Long> uncovered = new ArrayList<>(); // 이전 값이 남지 않도록 비운다
+        for (SchoolMapDTO school : schools) {
+            String region = school.getX() == null || school.getY() == null
+                    ? null
+                    : regionOf(school.getY(), school.getX());
+            if (region != null) {
+                byRegion.computeIfAbsent(region, r -> new ArrayList<>()).add(school.getSchoolId());
+            } else {
+                uncovered.add(school.getSchoolId());
+            }
+        }
+
+        Integer updated = requiresNewTemplate.execute(status -> {
+            int count = 0;
+            for (Map.Entry<String, List<Long>> entry : byRegion.entrySet()) {
+                List<Long> ids = entry.getValue();
+                for (int from = 0; from < ids.size(); from += UPDATE_CHUNK) {
+                    count += schoolRepository.updateSchoolRegion(
+                            entry.getKey(), ids.subList(from, Math.min(from + UPDATE_CHUNK, ids.size())));
+                }
+            }
+            for (int from = 0; from < uncovered.size(); from += UPDATE_CHUNK) {
+                count += schoolRepository.clearSchoolRegion(
+                        uncovered.subList(from, Math.min(from + UPDATE_CHUNK, uncovered.size())));
+            }
+            return count;
+        });
+        return Objects.requireNonNullElse(updated, 0);
+    }
+
+    private Region toRegion(String polygonName, GeoJsonParser.Feature feature) {
+        Geometry geometry = feature.geometry();
+        Envelope envelope = geometry.getEnvelopeInternal();
+
+        String name = PROVINCE_NAMES.get(feature.properties().get("CTPRVN_CD"));
+        if (name == null) name = feature.properties().getOrDefault("CTP_ENG_NM", polygonName);
+        return new Region(name, PreparedGeometryFactory.prepare(geometry), envelope);
+    }
+}
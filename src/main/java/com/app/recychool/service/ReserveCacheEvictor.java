@@ -0,0 +1,57 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+// 예약 상태 / 학교 데이터가 바뀌면 (커밋 이후) 해당 학교의 조회 캐시를 비운다
+@Component
+@RequiredArgsConstructor
+public class ReserveCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final ReservePageCache reservePageCache;
+
+    @TransactionalEventListener
+    public void onReserveStatusChanged(ReserveStatusChangedEvent event) {
+        // 장소대여 예약 불가 날짜는 COMPLETED 장소 예약 기준
+        if (event.reserveType() == ReserveType.PLACE
+                && (event.fromStatus() == ReserveStatus.COMPLETED || event.toStatus() == ReserveStatus.COMPLETED)) {
+            reservePageCache.evictPlaceUnavailableDates(event.schoolId());
+        }
+
+        // 캘린더는 COMPLETED 주차 예약만 센다
+        if (event.reserveType() == ReserveType.PARKING
+                && (event.fromStatus() == ReserveStatus.COMPLETED || event.toStatus() == ReserveStatus.COMPLETED)) {
+            evictParkingCounts(event.schoolId());
+        }
+    }
+
+    // 학교 정보 캐시 (재적재 / 동기화 / 관리자 수정)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        if (event.isFull()) {
+            reservePageCache.evictAllSchools();
+            return;
+        }
+        for (Long schoolId : event.schoolIds()) {
+            reservePageCache.evictSchool(schoolId);
+        }
+    }
+
+    private void evictParkingCounts(Long schoolId) {
+        Cache cache = cacheManager.getCache(ReserveQueryService.PARKING_COUNT_CACHE);
+        if (cache == null) return;
+
+        LocalDate today = LocalDate.now();
+        cache.evict(schoolId + ":" + today + ":" + ReserveQueryService.parkingCalendarEnd(today));
+    }
+}
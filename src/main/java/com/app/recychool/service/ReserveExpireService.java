@@ -2,4 +2,7 @@ package com.app.recychool.service;
 
 public interface ReserveExpireService {
     void expireReserves();
+
+    // 결제하지 않고 방치된 PENDING 주차 예약 취소 (취소 건수)
+    int expireStalePending();
 }
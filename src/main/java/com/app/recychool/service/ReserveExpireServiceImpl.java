@@ -1,33 +1,174 @@
 package com.app.recychool.service;
 
-import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.dto.reserve.ReserveExpireTargetDTO;
+import com.app.recychool.domain.entity.SchoolMetadata;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
 import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolMetadataRepository;
 import com.app.recychool.service.ReserveExpireService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 만료 처리를 id 기준 keyset 페이지 단위로 나눠 chunk마다 커밋한다.
+ * chunk의 마지막 id를 같은 트랜잭션에서 SCHOOL_METADATA에 기록하므로
+ * 중간에 서버가 죽어도 다음 실행이 그 지점부터 이어서 처리한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReserveExpireServiceImpl implements ReserveExpireService {
 
+    private static final String CHECKPOINT_KEY = "reserve_expire_checkpoint";
+
     private final ReserveRepository reserveRepository;
+    private final ParkingCapacityLedger parkingCapacityLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchoolMetadataRepository schoolMetadataRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.reserve.expire-chunk-size:500}")
+    private int chunkSize;
+
+    // 결제 없이 이 시간이 지난 PENDING 주차 예약은 취소하고 ledger 자리를 돌려준다 (장소대여는 건드리지 않음)
+    @Value("${app.reserve.pending-timeout-minutes:30}")
+    private long pendingTimeoutMinutes;
 
     @Override
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정
-    @Transactional
+    @Scheduled(cron = "0 0 * * * *") // 매시 정각 (밀린 만큼만 처리)
     public void expireReserves() {
         LocalDate today = LocalDate.now();
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+        long lastId = loadCheckpoint(today);
+        int total = 0;
+        int chunks = 0;
 
-        List<Reserve> targets =
-                reserveRepository.findCompletedAndExpired(today);
+        while (true) {
+            long cursor = lastId;
+            List<ReserveExpireTargetDTO> chunk = txTemplate.execute(status -> expireChunk(today, cursor));
+            if (chunk == null || chunk.isEmpty()) break;
 
-        for (Reserve reserve : targets) {
-            reserve.expire(today);
+            lastId = chunk.get(chunk.size() - 1).getReserveId();
+            total += chunk.size();
+            chunks++;
+            log.info("예약 만료 chunk #{}: rows={}, lastId={}", chunks, chunk.size(), lastId);
+
+            if (chunk.size() < chunkSize) break;
+        }
+
+        // 한 바퀴 끝났으면 체크포인트 제거 (다음 실행은 처음부터)
+        schoolMetadataRepository.deleteById(CHECKPOINT_KEY);
+        if (total > 0) {
+            log.info("예약 만료 완료: rows={}, chunks={}", total, chunks);
         }
     }
+
+    @Override
+    @Scheduled(cron = "0 */5 * * * *") // 5분마다
+    public int expireStalePending() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTimeoutMinutes);
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+        // 취소된 행은 다음 조회에서 빠지므로 커서 없이 빌 때까지 반복
+        int total = 0;
+        while (true) {
+            Integer canceled = txTemplate.execute(status -> cancelPendingChunk(cutoff));
+            if (canceled == null || canceled == 0) break;
+            total += canceled;
+            if (canceled < chunkSize) break;
+        }
+        if (total > 0) {
+            log.info("PENDING 시간 초과 취소: rows={}, cutoff={}", total, cutoff);
+        }
+        return total;
+    }
+
+    // 건별 조건부 UPDATE: 조회 후 결제가 끝난 예약은 건드리지 않는다
+    private int cancelPendingChunk(LocalDateTime cutoff) {
+        List<ReserveExpireTargetDTO> targets =
+                reserveRepository.findStalePending(cutoff, PageRequest.of(0, chunkSize));
+
+        int canceled = 0;
+        for (ReserveExpireTargetDTO target : targets) {
+            if (reserveRepository.cancelIfPending(target.getReserveId()) == 0) continue;
+            canceled++;
+
+            parkingCapacityLedger.release(target.getSchoolId(), target.getStartDate(), target.getEndDate());
+            eventPublisher.publishEvent(new ReserveStatusChangedEvent(
+                    target.getReserveId(),
+                    target.getSchoolId(),
+                    target.getReserveType(),
+                    ReserveStatus.PENDING,
+                    ReserveStatus.CANCELED,
+                    target.getStartDate(),
+                    target.getEndDate()
+            ));
+        }
+        return canceled;
+    }
+
+    // chunk 하나를 한 트랜잭션에서 만료 + 체크포인트 기록
+    private List<ReserveExpireTargetDTO> expireChunk(LocalDate today, long lastId) {
+        List<ReserveExpireTargetDTO> targets =
+                reserveRepository.findExpireTargets(today, lastId, PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) return targets;
+
+        // 건별 조건부 UPDATE: 조회 후 다른 요청이 상태를 바꾼 예약은 반환 / 이벤트 없이 건너뛴다
+        int expired = 0;
+        for (ReserveExpireTargetDTO target : targets) {
+            if (reserveRepository.expireIfCompleted(target.getReserveId()) == 0) continue;
+            expired++;
+
+            // 만료된 주차 예약은 ledger 자리도 반환
+            if (target.getReserveType() == ReserveType.PARKING) {
+                parkingCapacityLedger.release(target.getSchoolId(), target.getStartDate(), target.getEndDate());
+            }
+            eventPublisher.publishEvent(new ReserveStatusChangedEvent(
+                    target.getReserveId(),
+                    target.getSchoolId(),
+                    target.getReserveType(),
+                    ReserveStatus.COMPLETED,
+                    ReserveStatus.EXPIRED,
+                    target.getStartDate(),
+                    target.getEndDate()
+            ));
+        }
+
+        if (expired < targets.size()) {
+            log.info("예약 만료 건너뜀 (조회 후 상태 변경): {}건", targets.size() - expired);
+        }
+        saveCheckpoint(today, targets.get(targets.size() - 1).getReserveId());
+        return targets;
+    }
+
+    // 체크포인트 형식: yyyy-MM-dd:lastId (같은 기준일의 실행만 이어서 처리)
+    private long loadCheckpoint(LocalDate today) {
+        return schoolMetadataRepository.findById(CHECKPOINT_KEY)
+                .map(SchoolMetadata::getMetaValue)
+                .filter(value -> value.startsWith(today + ":"))
+                .map(value -> Long.parseLong(value.substring(value.indexOf(':') + 1)))
+                .orElse(0L);
+    }
+
+    private void saveCheckpoint(LocalDate today, long lastId) {
+        schoolMetadataRepository.save(SchoolMetadata.builder()
+                .metaKey(CHECKPOINT_KEY)
+                .metaValue(today + ":" + lastId)
+                .createAt(LocalDateTime.now())
+                .build());
+    }
 }
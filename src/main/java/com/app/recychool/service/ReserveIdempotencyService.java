@@ -0,0 +1,155 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.ReserveCreateResponseDTO;
+import com.app.recychool.exception.ReserveException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 가 붙은 예약 생성 요청을 한 번만 실행한다.
+ * - 이미 처리된 키: 저장된 응답을 그대로 반환 (DB 조회 없음)
+ * - 같은 서버에서 동시에 들어온 중복: 하나만 실행하고 나머지는 그 결과를 기다림
+ * - 다른 서버가 처리 중인 키: 저장소에 응답이 생길 때까지 잠시 대기
+ * 실패(예외)한 요청은 저장하지 않으므로 같은 키로 다시 시도할 수 있다.
+ * 응답과 함께 요청 본문 해시를 저장해 두고, 같은 키에 다른 요청이 오면 409 로 거절한다
+ * (다른 날짜로 재시도했는데 이전 예약 응답을 받는 일이 없도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReserveIdempotencyService {
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, Running> inFlight = new ConcurrentHashMap<>();
+
+    private record Running(String requestHash, CompletableFuture<ReserveCreateResponseDTO> future) {}
+
+    // 저장소에 들어가는 값 (요청 해시 + 응답)
+    private record Stored(String requestHash, ReserveCreateResponseDTO response) {}
+
+    @Value("${app.idempotency.wait-ms:5000}")
+    private long waitMillis;
+
+    // request 는 요청 본문 DTO (필드 선언 순서대로 직렬화한 값을 해시)
+    public ReserveCreateResponseDTO execute(String key, Object request, Supplier<ReserveCreateResponseDTO> action) {
+        String requestHash = hash(request);
+        Running mine = new Running(requestHash, new CompletableFuture<>());
+        Running running = inFlight.putIfAbsent(key, mine);
+
+        // 같은 서버에서 이미 실행 중 → 결과 공유
+        if (running != null) {
+            checkSameRequest(key, running.requestHash(), requestHash);
+            try {
+                return running.future().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+
+        try {
+            ReserveCreateResponseDTO response = executeOnce(key, requestHash, action);
+            mine.future().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private ReserveCreateResponseDTO executeOnce(String key, String requestHash, Supplier<ReserveCreateResponseDTO> action) {
+        Optional<String> stored = idempotencyStore.getResponse(key);
+        if (stored.isPresent()) {
+            return replay(key, requestHash, stored.get());
+        }
+
+        if (!idempotencyStore.tryBegin(key)) {
+            return waitForOtherNode(key, requestHash);
+        }
+
+        ReserveCreateResponseDTO response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyStore.abandon(key);
+            throw e;
+        }
+
+        // 예약은 이미 커밋됐으므로 응답 저장 실패는 로그만 남긴다
+        try {
+            idempotencyStore.complete(key, write(new Stored(requestHash, response)));
+        } catch (RuntimeException e) {
+            log.warn("멱등 응답 저장 실패: {}", key, e);
+        }
+        return response;
+    }
+
+    private ReserveCreateResponseDTO waitForOtherNode(String key, String requestHash) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<String> stored = idempotencyStore.getResponse(key);
+            if (stored.isPresent()) {
+                return replay(key, requestHash, stored.get());
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new ReserveException("같은 예약 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 저장된 응답을 돌려주기 전에 같은 요청인지 확인
+    private ReserveCreateResponseDTO replay(String key, String requestHash, String json) {
+        try {
+            Stored stored = objectMapper.readValue(json, Stored.class);
+            checkSameRequest(key, stored.requestHash(), requestHash);
+            return stored.response();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 예약 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void checkSameRequest(String key, String expected, String actual) {
+        if (!expected.equals(actual)) {
+            log.warn("멱등 키 재사용 (요청 내용 다름): {}", key);
+            throw new ReserveException("같은 Idempotency-Key 로 다른 예약 요청을 보낼 수 없습니다. 새 키를 사용해주세요.");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("예약 요청을 해시할 수 없습니다.", e);
+        }
+    }
+
+    private String write(Stored response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 응답을 저장할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.ReserveType;
+
+import java.time.LocalDate;
+
+// (학교, 날짜, 예약타입) 단위 락. 현재 트랜잭션이 끝나면 자동으로 풀린다
+public interface ReserveLockService {
+
+    public void lockUntilCompletion(Long schoolId, LocalDate date, ReserveType reserveType);
+}
@@ -0,0 +1,62 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.exception.ReserveException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 안에서만 유효한 striped lock (단일 서버 기본값).
+ * 키를 해시해서 고정 개수의 락 중 하나를 잡으므로 서로 다른 학교/날짜는 거의 경합하지 않는다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.reserve.lock", havingValue = "local", matchIfMissing = true)
+public class ReserveLockServiceImpl implements ReserveLockService {
+
+    private static final int STRIPES = 1024;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    @Value("${app.reserve.lock-wait-ms:3000}")
+    private long waitMillis;
+
+    public ReserveLockServiceImpl() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void lockUntilCompletion(Long schoolId, LocalDate date, ReserveType reserveType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("예약 락은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        ReentrantLock lock = locks[Math.floorMod(Objects.hash(schoolId, date, reserveType), STRIPES)];
+
+        try {
+            if (!lock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new ReserveException("예약 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReserveException("예약 처리 중 중단되었습니다.");
+        }
+
+        // 커밋(또는 롤백)까지 잡고 있어야 다음 요청이 방금 저장한 예약을 본다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.ReserveOutbox;
+import com.app.recychool.domain.event.ReserveOutboxBatchEvent;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
+import com.app.recychool.repository.ReserveOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 상태 변경 transactional outbox.
+ * - 기록: ReserveStatusChangedEvent 를 상태 변경과 같은 트랜잭션에서 TBL_RESERVE_OUTBOX 에 저장
+ * - 발행: poller가 커밋된 행을 id 순으로 모아 ReserveOutboxBatchEvent 로 발행하고
+ *   (app.outbox.redis-stream.enabled=true 이면 Redis Stream 에도 추가) 발행 시각을 기록
+ * 발행 도중 서버가 죽으면 다음 poll 에서 다시 발행되므로 리스너는 중복 수신을 견뎌야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReserveOutboxService {
+
+    private final ReserveOutboxRepository reserveOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.redis-stream.enabled:false}")
+    private boolean redisStreamEnabled;
+
+    @Value("${app.outbox.redis-stream.key:reserve-events}")
+    private String redisStreamKey;
+
+    @Value("${app.outbox.retention-days:7}")
+    private long retentionDays;
+
+    // 상태 변경과 같은 트랜잭션에서 기록 (롤백되면 같이 사라짐)
+    @EventListener
+    public void append(ReserveStatusChangedEvent event) {
+        reserveOutboxRepository.save(ReserveOutbox.from(event));
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-delay-ms:1000}")
+    public void poll() {
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+        while (true) {
+            Integer published = txTemplate.execute(status -> publishBatch());
+            if (published == null || published < batchSize) break;
+        }
+    }
+
+    // 한 배치 발행 (트랜잭션 안에서 호출)
+    private int publishBatch() {
+        List<Long> ids = reserveOutboxRepository.findUnpublishedIds(PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return 0;
+
+        // 그 사이 다른 서버가 잡았거나 발행한 행은 빠진다
+        List<ReserveOutbox> rows = reserveOutboxRepository.lockUnpublished(ids);
+        if (rows.isEmpty()) return 0;
+
+        List<ReserveStatusChangedEvent> events = rows.stream().map(ReserveOutbox::toEvent).toList();
+        eventPublisher.publishEvent(new ReserveOutboxBatchEvent(events));
+
+        if (redisStreamEnabled) {
+            for (ReserveOutbox row : rows) {
+                publishToStream(row);
+            }
+        }
+
+        reserveOutboxRepository.markPublished(rows.stream().map(ReserveOutbox::getId).toList(), LocalDateTime.now());
+        return rows.size();
+    }
+
+    private void publishToStream(ReserveOutbox row) {
+        Map<String, String> body = new HashMap<>();
+        body.put("outboxId", String.valueOf(row.getId()));
+        body.put("reserveId", String.valueOf(row.getReserveId()));
+        body.put("schoolId", String.valueOf(row.getSchoolId()));
+        body.put("reserveType", row.getReserveType().name());
+        body.put("fromStatus", row.getFromStatus() == null ? "" : row.getFromStatus().name());
+        body.put("toStatus", row.getToStatus().name());
+        body.put("startDate", String.valueOf(row.getStartDate()));
+        body.put("endDate", String.valueOf(row.getEndDate()));
+
+        redisTemplate.opsForStream().add(redisStreamKey, body);
+    }
+
+    // 발행 완료 후 보관 기간이 지난 행 정리 (매일 새벽 4시)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgePublished() {
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        Integer deleted = txTemplate.execute(status ->
+                reserveOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("발행 완료 outbox 정리: {}건", deleted);
+    }
+}
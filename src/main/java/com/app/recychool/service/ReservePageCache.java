@@ -0,0 +1,70 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.ReservePageSchoolDTO;
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 페이지 read-through 캐시.
+ * 학교 정보(거의 불변)와 예약 불가 날짜(예약 상태에 따라 변함)를 따로 캐시해서
+ * 예약 상태가 바뀌어도 날짜 부분만 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservePageCache {
+
+    public static final String SCHOOL_CACHE = "reservePageSchool";
+    public static final String UNAVAILABLE_DATES_CACHE = "reserveUnavailableDates";
+
+    private final SchoolRepository schoolRepository;
+    private final ReserveRepository reserveRepository;
+
+    @Cacheable(cacheNames = SCHOOL_CACHE, key = "#schoolId")
+    public ReservePageSchoolDTO getSchool(Long schoolId) {
+        School school = schoolRepository.findById(schoolId)
+                .orElseThrow(() -> new IllegalStateException("학교가 존재하지 않습니다."));
+
+        return ReservePageSchoolDTO.builder()
+                .schoolId(school.getId())
+                .schoolName(school.getSchoolName())
+                .schoolAddress(school.getSchoolAddress())
+                .schoolPhone(school.getSchoolPhone())
+                .schoolArea(school.getSchoolArea())
+                .schoolImageName(school.getSchoolImageName())
+                .schoolImagePath(school.getSchoolImagePath())
+                .build();
+    }
+
+    // PLACE 예약 불가 날짜 (yyyy-MM-dd). 직렬화 문제를 피하려고 문자열로 캐시
+    @Cacheable(cacheNames = UNAVAILABLE_DATES_CACHE, key = "#schoolId")
+    public List<String> getPlaceUnavailableDates(Long schoolId) {
+        List<String> dates = new ArrayList<>();
+        for (LocalDate date : reserveRepository.findStartDates(schoolId, ReserveType.PLACE, ReserveStatus.COMPLETED)) {
+            dates.add(date.toString());
+        }
+        return dates;
+    }
+
+    @CacheEvict(cacheNames = SCHOOL_CACHE, key = "#schoolId")
+    public void evictSchool(Long schoolId) {
+    }
+
+    @CacheEvict(cacheNames = SCHOOL_CACHE, allEntries = true)
+    public void evictAllSchools() {
+    }
+
+    @CacheEvict(cacheNames = UNAVAILABLE_DATES_CACHE, key = "#schoolId")
+    public void evictPlaceUnavailableDates(Long schoolId) {
+    }
+}
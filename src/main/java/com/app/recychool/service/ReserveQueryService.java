@@ -8,6 +8,13 @@ import java.util.Map;
 
 public interface ReserveQueryService {
 
+    String PARKING_COUNT_CACHE = "parkingCountMap";
+
+    // 주차 캘린더 조회 구간 (오늘 ~ 한 달 뒤)
+    static LocalDate parkingCalendarEnd(LocalDate from) {
+        return from.plusMonths(1);
+    }
+
     // 예약 페이지 진입 시 호출
     SchoolReservePageResponseDTO getReservePageInfo(
             Long schoolId,
@@ -1,18 +1,19 @@
 package com.app.recychool.service;
 
+import com.app.recychool.domain.dto.reserve.ParkingSeatDTO;
+import com.app.recychool.domain.dto.reserve.ReservePageSchoolDTO;
 import com.app.recychool.domain.dto.reserve.SchoolReservePageResponseDTO;
-import com.app.recychool.domain.entity.Reserve;
-import com.app.recychool.domain.entity.School;
 import com.app.recychool.domain.enums.ReserveStatus;
 import com.app.recychool.domain.enums.ReserveType;
 import com.app.recychool.repository.ReserveRepository;
-import com.app.recychool.repository.SchoolRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,8 +22,8 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class ReserveQueryServiceImpl implements ReserveQueryService {
 
-    private final SchoolRepository schoolRepository;
     private final ReserveRepository reserveRepository;
+    private final ReservePageCache reservePageCache;
     private static final int PARKING_AREA_PER_CAR = 100;
 
     @Override
@@ -31,9 +32,8 @@ public class ReserveQueryServiceImpl implements ReserveQueryService {
             ReserveType reserveType
     ) {
 
-        // 1. 학교 조회
-        School school = schoolRepository.findById(schoolId)
-                .orElseThrow(() -> new IllegalStateException("학교가 존재하지 않습니다."));
+        // 1. 학교 조회 (캐시)
+        ReservePageSchoolDTO school = reservePageCache.getSchool(schoolId);
 
         // 2. 예약 불가 날짜 계산
         List<LocalDate> unavailableDates =
@@ -61,7 +61,7 @@ public class ReserveQueryServiceImpl implements ReserveQueryService {
 
         // 4. DTO 반환
         return SchoolReservePageResponseDTO.builder()
-                .schoolId(school.getId())
+                .schoolId(school.getSchoolId())
                 .schoolName(school.getSchoolName())
                 .schoolAddress(school.getSchoolAddress())
                 .schoolPhone(school.getSchoolPhone())
@@ -80,21 +80,16 @@ public class ReserveQueryServiceImpl implements ReserveQueryService {
                 .build();
     }
 
-    // PLACE 예약 불가 날짜
+    // PLACE 예약 불가 날짜 (캐시, 예약 상태 변경 시 무효화)
     private List<LocalDate> getUnavailableDates(
             Long schoolId,
             ReserveType reserveType
     ) {
 
         if (reserveType == ReserveType.PLACE) {
-            return reserveRepository
-                    .findBySchoolIdAndReserveTypeAndReserveStatus(
-                            schoolId,
-                            ReserveType.PLACE,
-                            ReserveStatus.COMPLETED
-                    )
+            return reservePageCache.getPlaceUnavailableDates(schoolId)
                     .stream()
-                    .map(Reserve::getStartDate)
+                    .map(LocalDate::parse)
                     .toList();
         }
 
@@ -102,24 +97,39 @@ public class ReserveQueryServiceImpl implements ReserveQueryService {
         return List.of();
     }
 
+    // 구간과 겹치는 예약을 한 번에 조회한 뒤 시작/종료 증감값을 누적 (날짜별 COUNT 반복 X)
     @Override
+    @Cacheable(cacheNames = PARKING_COUNT_CACHE, key = "#schoolId + ':' + #from + ':' + #to")
     public Map<String, Integer> getParkingCountMap(
             Long schoolId,
             LocalDate from,
             LocalDate to
     ) {
-        Map<String, Integer> result = new HashMap<>();
-
-        LocalDate date = from;
-        while (!date.isAfter(to)) {
-            long count = reserveRepository.countActiveParking(
-                    schoolId,
-                    ReserveType.PARKING,
-                    ReserveStatus.COMPLETED,
-                    date
-            );
-            result.put(date.toString(), (int) count);
-            date = date.plusDays(1);
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days <= 0) return result;
+
+        int[] delta = new int[days + 1];
+
+        List<ParkingSeatDTO> seats = reserveRepository.findParkingSeatsInRange(
+                schoolId,
+                ReserveStatus.COMPLETED,
+                from,
+                to
+        );
+
+        for (ParkingSeatDTO seat : seats) {
+            LocalDate start = seat.getStartDate().isBefore(from) ? from : seat.getStartDate();
+            LocalDate end = seat.getEndDate().isAfter(to) ? to : seat.getEndDate();
+            delta[(int) ChronoUnit.DAYS.between(from, start)]++;
+            delta[(int) ChronoUnit.DAYS.between(from, end) + 1]--;
+        }
+
+        int count = 0;
+        for (int i = 0; i < days; i++) {
+            count += delta[i];
+            result.put(from.plusDays(i).toString(), count);
         }
 
         return result;
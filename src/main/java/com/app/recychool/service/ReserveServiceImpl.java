@@ -2,16 +2,19 @@ package com.app.recychool.service;
 
 import com.app.recychool.domain.dto.reserve.ReserveCreateRequestDTO;
 import com.app.recychool.domain.dto.reserve.ReserveCreateResponseDTO;
+import com.app.recychool.domain.dto.reserve.ReservePrecheckDTO;
 import com.app.recychool.domain.entity.Reserve;
 import com.app.recychool.domain.entity.School;
 import com.app.recychool.domain.entity.User;
 import com.app.recychool.domain.enums.ReserveStatus;
 import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
 import com.app.recychool.exception.ReserveException;
 import com.app.recychool.repository.ReserveRepository;
 import com.app.recychool.repository.SchoolRepository;
 import com.app.recychool.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,8 +31,13 @@ public class ReserveServiceImpl implements ReserveService {
     private final ReserveRepository reserveRepository;
     private final SchoolRepository schoolRepository;
     private final UserRepository userRepository;
+    private final ParkingCapacityLedger parkingCapacityLedger;
+    private final ReserveLockService reserveLockService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int PARKING_AREA_PER_CAR = 100;
+    private static final List<ReserveStatus> ACTIVE_STATUSES =
+            List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED);
 
     @Override
     public ReserveCreateResponseDTO createReserve(
@@ -45,29 +53,40 @@ public class ReserveServiceImpl implements ReserveService {
             throw new ReserveException("예약 날짜가 필요합니다.");
         }
 
-        // 0. 사용자 예약 횟수 검증 (주차 1 / 장소대여 2)
-        if (reserveType == ReserveType.PARKING) {
-            validateParkingLimit(userId);
-        } else if (reserveType == ReserveType.PLACE) {
-            validatePlaceLimit(userId);
-        } else {
+        if (reserveType != ReserveType.PARKING && reserveType != ReserveType.PLACE) {
             throw new ReserveException("지원하지 않는 예약 타입입니다.");
         }
 
-        // 1. 사용자 / 학교 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ReserveException("존재하지 않는 사용자입니다."));
+        LocalDate startDate = requestDTO.getStartDate();
+
+        // 1. 확인 → 저장 구간은 (학교, 날짜, 타입) 락 안에서 처리 (커밋 시 해제)
+        reserveLockService.lockUntilCompletion(schoolId, startDate, reserveType);
 
-        School school = schoolRepository.findById(schoolId)
+        // 2. 사용자 / 학교 / 예약 현황을 한 번에 조회
+        ReservePrecheckDTO precheck = reserveRepository
+                .findPrecheck(userId, schoolId, reserveType, ACTIVE_STATUSES, startDate)
                 .orElseThrow(() -> new ReserveException("존재하지 않는 학교입니다."));
 
-        LocalDate startDate = requestDTO.getStartDate();
+        if (precheck.getUserCount() == 0) {
+            throw new ReserveException("존재하지 않는 사용자입니다.");
+        }
+
+        // 3. 사용자 예약 횟수 검증 (주차 1 / 장소대여 2)
+        if (reserveType == ReserveType.PARKING) {
+            validateParkingLimit(precheck.getUserActiveCount());
+        } else {
+            validatePlaceLimit(precheck.getUserActiveCount());
+        }
 
-        // 2. 타입별 분기
+        // 4. 저장할 때는 FK만 필요하므로 엔티티를 읽지 않고 참조만 사용
+        User user = userRepository.getReferenceById(userId);
+        School school = schoolRepository.getReferenceById(schoolId);
+
+        // 5. 타입별 분기
         if (reserveType == ReserveType.PLACE) {
-            return createPlaceReserve(user, school, startDate);
+            return createPlaceReserve(user, school, startDate, precheck);
         } else {
-            return createParkingReserve(user, school, startDate);
+            return createParkingReserve(user, school, startDate, precheck);
         }
     }
 
@@ -76,17 +95,11 @@ public class ReserveServiceImpl implements ReserveService {
     private ReserveCreateResponseDTO createPlaceReserve(
             User user,
             School school,
-            LocalDate date
+            LocalDate date,
+            ReservePrecheckDTO precheck
     ) {
         // PENDING + COMPLETED 모두 차단 (정책: 결제 대기 중/완료 모두 1팀 제한)
-        boolean exists = reserveRepository.existsBySchoolIdAndReserveTypeAndReserveStatusInAndStartDate(
-                school.getId(),
-                ReserveType.PLACE,
-                List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED),
-                date
-        );
-
-        if (exists) {
+        if (precheck.getDateActiveCount() > 0) {
             throw new ReserveException("이미 해당 날짜에 장소대여 예약이 존재합니다.");
         }
 
@@ -103,6 +116,7 @@ public class ReserveServiceImpl implements ReserveService {
                 .build();
 
         Reserve saved = reserveRepository.save(reserve);
+        eventPublisher.publishEvent(ReserveStatusChangedEvent.of(saved, null));
 
         return ReserveCreateResponseDTO.builder()
                 .reserveId(saved.getId())
@@ -117,10 +131,11 @@ public class ReserveServiceImpl implements ReserveService {
     private ReserveCreateResponseDTO createParkingReserve(
             User user,
             School school,
-            LocalDate date
+            LocalDate date,
+            ReservePrecheckDTO precheck
     ) {
         // 학교 대지면적 기반 최대 수용량 계산 (정수로 내림)
-        Double land = school.getSchoolLand();
+        Double land = precheck.getSchoolLand();
         if (land == null || land <= 0) {
             throw new ReserveException("해당 학교의 주차 수용 정보를 계산할 수 없습니다.");
         }
@@ -130,12 +145,12 @@ public class ReserveServiceImpl implements ReserveService {
             throw new ReserveException("해당 학교는 주차 수용이 불가능합니다.");
         }
 
-        // 활성(완료) 주차 예약 수
-        long activeCount = getCompletedParkingCount(school.getId(), date);
+        LocalDate endDate = date.plusMonths(1);
 
         Reserve reserve;
 
-        if (activeCount < maxCapacity) {
+        // ledger에서 바로 자리 점유 (DB COUNT 없이 원자적으로 판단)
+        if (parkingCapacityLedger.tryAdmit(school.getId(), date, endDate, maxCapacity)) {
             // 자리 있음 → PENDING
             reserve = Reserve.builder()
                     .user(user)
@@ -143,7 +158,7 @@ public class ReserveServiceImpl implements ReserveService {
                     .reserveType(ReserveType.PARKING)
                     .reserveStatus(ReserveStatus.PENDING)
                     .startDate(date)
-                    .endDate(date.plusMonths(1))
+                    .endDate(endDate)
                     .reservePrice(30_000)
                     .reserveDeposit(0)
                     .build();
@@ -159,13 +174,14 @@ public class ReserveServiceImpl implements ReserveService {
                     .reserveStatus(ReserveStatus.WAITING)
                     .waitingOrder(nextOrder)
                     .startDate(date)
-                    .endDate(date.plusMonths(1))
+                    .endDate(endDate)
                     .reservePrice(30_000)
                     .reserveDeposit(0)
                     .build();
         }
 
         Reserve saved = reserveRepository.save(reserve);
+        eventPublisher.publishEvent(ReserveStatusChangedEvent.of(saved, null));
 
         return ReserveCreateResponseDTO.builder()
                 .reserveId(saved.getId())
@@ -178,28 +194,16 @@ public class ReserveServiceImpl implements ReserveService {
 
     /* ================= 유저 제한 ================= */
 
-    private void validateParkingLimit(Long userId) {
+    private void validateParkingLimit(long activeCount) {
         // 정책: 주차는 "진행 중(PENDING) + 완료(COMPLETED)" 합쳐서 1건만 허용
-        boolean exists = reserveRepository.existsByUserIdAndReserveTypeAndReserveStatusIn(
-                userId,
-                ReserveType.PARKING,
-                List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED)
-        );
-
-        if (exists) {
+        if (activeCount > 0) {
             throw new ReserveException("주차 예약은 1건만 가능합니다. 취소 후 다시 예약해주세요.");
         }
     }
 
-    private void validatePlaceLimit(Long userId) {
+    private void validatePlaceLimit(long activeCount) {
         // 정책: 장소대여는 "진행 중(PENDING) + 완료(COMPLETED)" 합쳐서 최대 2건
-        long count = reserveRepository.countByUserIdAndReserveTypeAndReserveStatusIn(
-                userId,
-                ReserveType.PLACE,
-                List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED)
-        );
-
-        if (count >= 2) {
+        if (activeCount >= 2) {
             throw new ReserveException("장소대여는 최대 2건까지 예약 가능합니다.");
         }
     }
@@ -249,34 +253,56 @@ public class ReserveServiceImpl implements ReserveService {
         // 상태 변경
         target.setReserveStatus(ReserveStatus.CANCELED);
         target.setWaitingOrder(null);
+        eventPublisher.publishEvent(ReserveStatusChangedEvent.of(target, ReserveStatus.WAITING));
 
-        // 뒤에 있던 대기자 조회 (PARKING + WAITING)
-        List<Reserve> afterList = reserveRepository.findWaitingAfterOrder(
+        // 뒤에 있던 대기자 (PARKING + WAITING) 대기번호 1씩 당김 → 대기열 길이와 무관하게 UPDATE 1회
+        reserveRepository.shiftWaitingOrdersAfter(
                 schoolId,
                 ReserveType.PARKING,
                 ReserveStatus.WAITING,
                 date,
                 order
         );
-
-        // 대기번호 1씩 당김
-        for (Reserve r : afterList) {
-            if (r.getWaitingOrder() != null) {
-                r.setWaitingOrder(r.getWaitingOrder() - 1);
-            }
-        }
     }
 
     // PENDING / COMPLETED 예약 취소 → 자리 하나 비는 상태
     private void cancelActiveReserve(Reserve target) {
+        ReserveStatus before = target.getReserveStatus();
         target.setReserveStatus(ReserveStatus.CANCELED);
+        releaseParkingSeat(target);
+        eventPublisher.publishEvent(ReserveStatusChangedEvent.of(target, before));
     }
 
     public void cancelReserve(Long reserveId, Long userId) {
         Reserve reserve = reserveRepository.findById(reserveId)
                 .orElseThrow();
 
+        ReserveStatus before = reserve.getReserveStatus();
+
+        // 대기 중인 주차 예약은 뒤 대기자 번호까지 정리
+        if (before == ReserveStatus.WAITING && reserve.getWaitingOrder() != null) {
+            cancelWaitingReserve(reserve);
+            return;
+        }
+
         reserve.cancel();
+        if (before == ReserveStatus.CANCELED) return;
+
+        if (before == ReserveStatus.PENDING || before == ReserveStatus.COMPLETED) {
+            releaseParkingSeat(reserve);
+        }
+        eventPublisher.publishEvent(ReserveStatusChangedEvent.of(reserve, before));
+    }
+
+    // 주차 예약이 차지하던 자리를 ledger에 반환
+    private void releaseParkingSeat(Reserve reserve) {
+        if (reserve.getReserveType() != ReserveType.PARKING) return;
+
+        parkingCapacityLedger.release(
+                reserve.getSchool().getId(),
+                reserve.getStartDate(),
+                reserve.getEndDate()
+        );
     }
 
     @Override
@@ -1,147 +1,608 @@
 package com.app.recychool.service;
 
-import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
 import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.util.CsvTokenizer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+/**
+ * 학교 CSV 적재 파이프라인.
+ * 읽기(호출 스레드) → 파싱/검증 워커 N개 → JDBC 배치 writer 1개.
+ * 단계 사이는 크기가 정해진 큐라서 뒤 단계가 느리면 앞 단계가 기다린다 (back-pressure).
+ * writer 는 배치마다 SEQ_SCHOOL 값을 한 번에 받아 PreparedStatement.addBatch 로 넣고,
+ * 커밋 후 SchoolsChangedEvent 로 검색/지도 인덱스에 반영한다.
+ * - loadFromInputStream: 이미 있는 이름은 건너뛰고 새 학교만 insert
+ * - syncFromInputStream: 이름 기준 MERGE. 행 해시가 같은 학교는 건너뛰고 바뀐 학교만 update
+ *   (배치 단위로 기존 해시를 조회하므로 메모리는 배치 크기만큼만 쓴다)
+ * BulkLoadJob 을 넘기면 커밋된 레코드 수를 체크포인트로 남기고, 다음 실행은 그 뒤부터 읽는다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SchoolBulkLoadService {
 
+    private static final String INSERT_SQL = """
+        INSERT INTO TBL_SCHOOL (
+            ID, SCHOOL_CITY, SCHOOL_NAME, SCHOOL_LAND, SCHOOL_AREA, SCHOOL_PHONE, SCHOOL_ADDRESS,
+            SCHOOL_LON, SCHOOL_LAT, SCHOOL_IMAGE_PATH, SCHOOL_IMAGE_NAME, SCHOOL_PARK_COUNT, ROW_HASH
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+    private static final String MERGE_SQL = """
+        MERGE INTO TBL_SCHOOL t
+        USING (
+            SELECT ? AS SCHOOL_CITY, ? AS SCHOOL_NAME, ? AS SCHOOL_LAND, ? AS SCHOOL_AREA, ? AS SCHOOL_PHONE,
+                   ? AS SCHOOL_ADDRESS, ? AS SCHOOL_LON, ? AS SCHOOL_LAT, ? AS SCHOOL_IMAGE_PATH,
+                   ? AS SCHOOL_IMAGE_NAME, ? AS SCHOOL_PARK_COUNT, ? AS ROW_HASH
+            FROM DUAL
+        ) s
+        ON (t.SCHOOL_NAME = s.SCHOOL_NAME)
+        WHEN MATCHED THEN UPDATE SET
+            t.SCHOOL_CITY = s.SCHOOL_CITY, t.SCHOOL_LAND = s.SCHOOL_LAND, t.SCHOOL_AREA = s.SCHOOL_AREA,
+            t.SCHOOL_PHONE = s.SCHOOL_PHONE, t.SCHOOL_ADDRESS = s.SCHOOL_ADDRESS,
+            t.SCHOOL_LON = s.SCHOOL_LON, t.SCHOOL_LAT = s.SCHOOL_LAT,
+            t.SCHOOL_IMAGE_PATH = s.SCHOOL_IMAGE_PATH, t.SCHOOL_IMAGE_NAME = s.SCHOOL_IMAGE_NAME,
+            t.SCHOOL_PARK_COUNT = s.SCHOOL_PARK_COUNT, t.ROW_HASH = s.ROW_HASH
+            WHERE t.ROW_HASH IS NULL OR t.ROW_HASH <> s.ROW_HASH
+        WHEN NOT MATCHED THEN INSERT (
+            ID, SCHOOL_CITY, SCHOOL_NAME, SCHOOL_LAND, SCHOOL_AREA, SCHOOL_PHONE, SCHOOL_ADDRESS,
+            SCHOOL_LON, SCHOOL_LAT, SCHOOL_IMAGE_PATH, SCHOOL_IMAGE_NAME, SCHOOL_PARK_COUNT, ROW_HASH
+        ) VALUES (
+            SEQ_SCHOOL.NEXTVAL, s.SCHOOL_CITY, s.SCHOOL_NAME, s.SCHOOL_LAND, s.SCHOOL_AREA, s.SCHOOL_PHONE,
+            s.SCHOOL_ADDRESS, s.SCHOOL_LON, s.SCHOOL_LAT, s.SCHOOL_IMAGE_PATH, s.SCHOOL_IMAGE_NAME,
+            s.SCHOOL_PARK_COUNT, s.ROW_HASH
+        )
+    """;
+    // SEQ_SCHOOL 은 INCREMENT BY 50 (pooled-lo): NEXTVAL 하나가 [값, 값 + 50) 블록
+    private static final String NEXT_BLOCKS_SQL = "SELECT SEQ_SCHOOL.NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?";
+    private static final int SEQ_INCREMENT = 50; // School @SequenceGenerator allocationSize 와 같아야 함
+
+    // 큐 한 칸에 담는 레코드 수 / 단계 사이 큐 크기
+    private static final int CHUNK_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 8;
+    private static final int MAX_IN_LIST = 1000;
+
+    // 단계 종료 표시 (참조 비교)
+    private static final RawChunk RAW_END = new RawChunk(-1, List.of());
+    private static final ParsedChunk PARSED_END = new ParsedChunk(-1, 0, List.of());
+
     private final SchoolRepository schoolRepository;
     private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
-    public record LoadResult(int inserted, int skipped, int failed) {}
+    @Value("${app.school-import.parser-threads:0}")
+    private int parserThreads;
+
+    // none 이면 JPA 와 같이 이전 방식(행마다 NEXTVAL 값 하나)으로 id 를 받는다 (처리량 비교용, JpaBatchConfig)
+    @Value("${app.jpa.id-optimizer:pooled-lo}")
+    private String idOptimizer;
+
+    public record LoadResult(int inserted, int skipped, int failed, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? 0 : (inserted + skipped + failed) * 1000.0 / elapsedMillis;
+        }
+    }
+
+    public record SyncResult(int inserted, int updated, int unchanged, int skipped, int failed, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? 0 : (inserted + updated + unchanged + skipped + failed) * 1000.0 / elapsedMillis;
+        }
+    }
+
+    // 파싱/검증이 끝난 한 행
+    private record SchoolRow(String city, String name, Double land, Double area, String phone, String address,
+                             Double lon, Double lat, String imgPath, String imgName, Integer parkCount,
+                             String rowHash) {}
+
+    // 단계 사이 큐 원소. seq 는 (체크포인트 이후) 몇 번째 청크인지, records 는 원본 레코드 수
+    private record RawChunk(long seq, List<List<String>> records) {}
+    private record ParsedChunk(long seq, int records, List<SchoolRow> rows) {}
 
     public LoadResult loadFromInputStream(InputStream is, int batchSize) {
+        return loadFromInputStream(is, batchSize, BulkLoadJob.detached("school-csv"));
+    }
+
+    // job 의 체크포인트(커밋된 레코드 수) 이후부터 적재하고, 배치 커밋마다 체크포인트 갱신
+    public LoadResult loadFromInputStream(InputStream is, int batchSize, BulkLoadJob job) {
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+        // 기존 이름만 조회 (대소문자/공백 트림)
+        Set<String> existing = new HashSet<>();
+        for (String name : schoolRepository.findAllSchoolNames()) {
+            existing.add(Optional.ofNullable(name).orElse("").trim());
+        }
+
+        runPipeline(is, batchSize, job,
+                row -> {
+                    // 이미 DB에 있거나 같은 실행에서 먼저 나온 이름이면 스킵
+                    if (existing.add(row.name())) return true;
+                    job.getSkipped().incrementAndGet();
+                    return false;
+                },
+                batch -> job.getInserted().addAndGet(saveBatch(txTemplate, batch, job.getFailed())));
+
+        LoadResult result = new LoadResult((int) job.getInserted().get(), (int) job.getSkipped().get(),
+                (int) job.getFailed().get(), job.elapsedMillis());
+        log.info("학교 CSV 적재: inserted={}, skipped={}, failed={}, {}ms, {} rows/s",
+                result.inserted(), result.skipped(), result.failed(), result.elapsedMillis(),
+                String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    public SyncResult syncFromInputStream(InputStream is, int batchSize) {
+        return syncFromInputStream(is, batchSize, BulkLoadJob.detached("school-csv-sync"));
+    }
+
+    public SyncResult syncFromInputStream(InputStream is, int batchSize, BulkLoadJob job) {
         TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
-        int inserted = 0, skipped = 0, failed = 0;
 
-        // 기존 이름을 한 번에 조회(대소문자/공백 트림)
-        Set<String> existing = new HashSet<>(schoolRepository.findAll()
-                .stream()
-                .map(s -> Optional.ofNullable(s.getSchoolName()).orElse("").trim())
-                .collect(Collectors.toSet()));
+        // 배치마다 이름 IN (...) 조회를 하므로 Oracle IN 목록 한도 안으로
+        runPipeline(is, Math.min(batchSize, MAX_IN_LIST), job, row -> true,
+                batch -> mergeBatch(txTemplate, batch, job));
 
+        SyncResult result = new SyncResult((int) job.getInserted().get(), (int) job.getUpdated().get(),
+                (int) job.getUnchanged().get(), (int) job.getSkipped().get(), (int) job.getFailed().get(),
+                job.elapsedMillis());
+        log.info("학교 CSV 동기화: inserted={}, updated={}, unchanged={}, skipped={}, failed={}, {}ms, {} rows/s",
+                result.inserted(), result.updated(), result.unchanged(), result.skipped(), result.failed(),
+                result.elapsedMillis(), String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    // 읽기 → 파싱 → (admit 통과한 행을 batchSize 개씩) batchWriter
+    private void runPipeline(InputStream is, int batchSize, BulkLoadJob job,
+                             Predicate<SchoolRow> admit, Consumer<List<SchoolRow>> batchWriter) {
+        int workers = parserThreads > 0 ? parserThreads : Math.min(4, Runtime.getRuntime().availableProcessors());
+
+        BlockingQueue<RawChunk> rawQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<ParsedChunk> parsedQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1, runnable -> {
+            Thread thread = new Thread(runnable, "school-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 한 단계가 실패하면 나머지 단계는 PipelineAbortedException 으로 빠져나오므로
+        // 모든 단계의 결과를 모은 뒤 중단 표시가 아닌 실제 원인을 던진다
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            List<Future<?>> stages = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                stages.add(executor.submit(() -> {
+                    parseLoop(rawQueue, parsedQueue, aborted, job);
+                    return null;
+                }));
+            }
+            stages.add(executor.submit(() -> {
+                writeLoop(parsedQueue, workers, batchSize, aborted, job, admit, batchWriter);
+                return null;
+            }));
+
+            try {
+                readLoop(job.track(is), rawQueue, workers, aborted, job.getResumeFrom());
+            } catch (Exception e) {
+                aborted.set(true);
+                failures.add(e);
+            }
+
+            for (Future<?> stage : stages) {
+                try {
+                    stage.get();
+                } catch (ExecutionException e) {
+                    aborted.set(true);
+                    failures.add(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            aborted.set(true);
+            Thread.currentThread().interrupt();
+            failures.add(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            throw rootCause(failures);
+        }
+    }
+
+    private static RuntimeException rootCause(List<Throwable> failures) {
+        Throwable root = failures.stream()
+                .filter(failure -> !(failure instanceof PipelineAbortedException))
+                .findFirst()
+                .orElse(failures.get(0));
+        for (Throwable failure : failures) {
+            if (failure != root && !(failure instanceof PipelineAbortedException)) root.addSuppressed(failure);
+        }
+
+        if (root instanceof RuntimeException runtime) return runtime;
+        if (root instanceof Error error) throw error;
+        if (root instanceof IOException io) return new UncheckedIOException("CSV 읽기 실패: " + io.getMessage(), io);
+        return new IllegalStateException("CSV 적재 실패: " + root.getMessage(), root);
+    }
+
+    // 1단계: 체크포인트까지 건너뛰고, 레코드를 CHUNK_SIZE 개씩 묶어 파싱 큐로
+    // (따옴표 안 줄바꿈이 있어 줄/바이트 위치 대신 레코드 수로 이어받는다)
+    private void readLoop(InputStream is, BlockingQueue<RawChunk> rawQueue, int workers,
+                          AtomicBoolean aborted, long resumeFrom) throws Exception {
         try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            // 헤더 읽기 (첫 줄)
-            String header = br.readLine();
-            if (header == null) {
-                return new LoadResult(0, 0, 0);
-            }
-
-            List<School> buffer = new ArrayList<>(batchSize);
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.isBlank()) continue;
-
-                // CSV는 콤마 구분. 값에 콤마가 포함될 가능성이 있으면 CSV 라이브러리 사용 권장.
-                String[] cols = line.split(",", -1); // -1: 빈 칸도 배열에 포함
-
-                String city = safe(cols, 0);
-                String name = safe(cols, 1);
-                String landStr = safe(cols, 2);
-                String phone = safe(cols, 3);
-                String address = safe(cols, 4);
-                String lonStr = safe(cols, 5); // _X
-                String latStr = safe(cols, 6); // _Y
-                String areaStr = safe(cols, 7);
-                String imgPath = safe(cols, 8);
-                String imgName = safe(cols, 9);
-                String parkCountStr = safe(cols, 10);
-
-                if (name == null || name.isBlank()) {
-                    skipped++;
-                    continue;
+            CsvTokenizer tokenizer = new CsvTokenizer(br);
+            tokenizer.next(); // 헤더
+
+            // 이미 커밋된 레코드
+            long passed = 0;
+            while (passed < resumeFrom && tokenizer.next() != null) passed++;
+
+            long seq = 0;
+            List<List<String>> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> record;
+            while ((record = tokenizer.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    put(rawQueue, new RawChunk(seq++, chunk), aborted);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
                 }
+            }
+            if (!chunk.isEmpty()) put(rawQueue, new RawChunk(seq, chunk), aborted);
+        } finally {
+            // 워커 수만큼 종료 표시 (뒤 단계가 이미 멈췄으면 생략: 읽기 예외나 뒤 단계 예외를 가리지 않도록)
+            try {
+                for (int i = 0; i < workers; i++) {
+                    put(rawQueue, RAW_END, aborted);
+                }
+            } catch (PipelineAbortedException ignored) {
+            }
+        }
+    }
+
+    // 2단계: 파싱 / 검증
+    private void parseLoop(BlockingQueue<RawChunk> rawQueue, BlockingQueue<ParsedChunk> parsedQueue,
+                           AtomicBoolean aborted, BulkLoadJob job) throws InterruptedException {
+        try {
+            while (true) {
+                RawChunk chunk = take(rawQueue, aborted);
+                if (chunk == RAW_END) break;
+
+                List<SchoolRow> rows = new ArrayList<>(chunk.records().size());
+                for (List<String> record : chunk.records()) {
+                    String name = safe(record, 1);
+                    if (name == null || name.isBlank()) {
+                        job.getSkipped().incrementAndGet();
+                        continue;
+                    }
+
+                    Integer park = parseIntegerOrNull(safe(record, 10));
+                    if (park == null) {
+                        log.warn("주차 가능 대수 형식 오류로 제외: {}", name);
+                        job.getFailed().incrementAndGet();
+                        continue;
+                    }
 
-                // 이미 DB에 존재하면 스킵
-                if (existing.contains(name)) {
-                    skipped++;
+                    rows.add(toRow(
+                            safe(record, 0), name,
+                            parseDoubleOrNull(safe(record, 2)),
+                            parseDoubleOrNull(safe(record, 7)),
+                            safe(record, 3), safe(record, 4),
+                            parseDoubleOrNull(safe(record, 5)), // _X
+                            parseDoubleOrNull(safe(record, 6)), // _Y
+                            safe(record, 8), safe(record, 9),
+                            park));
+                }
+                put(parsedQueue, new ParsedChunk(chunk.seq(), chunk.records().size(), rows), aborted);
+            }
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            throw e;
+        } finally {
+            try {
+                put(parsedQueue, PARSED_END, aborted);
+            } catch (PipelineAbortedException ignored) {
+            }
+        }
+    }
+
+    /*
+     * 3단계: admit 통과한 행을 batchSize 개씩 묶어 저장.
+     * 파싱 워커가 여러 개라 청크가 순서 없이 도착하므로, seq 순서대로 다시 줄 세운 뒤에 행을 받는다.
+     * (insert 는 같은 이름 중 파일에서 먼저 나온 행, sync 는 나중에 나온 행이 항상 남도록)
+     * 먼저 도착한 청크는 앞 seq 가 올 때까지 reorder 에 들고 있는다 (최대 워커 수 + 큐 크기 정도).
+     */
+    private void writeLoop(BlockingQueue<ParsedChunk> parsedQueue, int workers, int batchSize, AtomicBoolean aborted,
+                           BulkLoadJob job, Predicate<SchoolRow> admit,
+                           Consumer<List<SchoolRow>> batchWriter) throws InterruptedException {
+        List<SchoolRow> buffer = new ArrayList<>(batchSize);
+        List<ParsedChunk> buffered = new ArrayList<>(); // 행 일부가 아직 buffer 에 있는 청크
+        Map<Long, Integer> flushed = new HashMap<>();   // 저장이 끝난 청크 seq → 레코드 수
+        long[] watermark = {0, job.getResumeFrom()};    // [다음 seq, 커밋된 레코드 수]
+        Map<Long, ParsedChunk> reorder = new HashMap<>(); // 앞 seq 를 기다리는 청크
+        long nextSeq = 0;
+        int finished = 0;
+
+        try {
+            while (finished < workers) {
+                ParsedChunk arrived = take(parsedQueue, aborted);
+                if (arrived == PARSED_END) {
+                    finished++;
                     continue;
                 }
+                reorder.put(arrived.seq(), arrived);
 
-                Double land = parseDoubleOrNull(landStr);
-                Double area = parseDoubleOrNull(areaStr);
-                Double lon = parseDoubleOrNull(lonStr);
-                Double lat = parseDoubleOrNull(latStr);
-                Integer park = Integer.parseInt(parkCountStr);
-
-                School s = School.builder()
-                        .schoolCity(city)
-                        .schoolName(name)
-                        .schoolLand(land)
-                        .schoolArea(area)
-                        .schoolPhone(phone)
-                        .schoolAddress(address)
-                        .schoolLon(lon)
-                        .schoolLat(lat)
-                        .schoolImagePath(imgPath)
-                        .schoolImageName(imgName)
-                        .schoolParkCount(park)
-                        .build();
-
-                buffer.add(s);
-                existing.add(name); // 같은 실행 내 중복 방지
-
-                if (buffer.size() >= batchSize) {
-                    int[] result = saveBatch(txTemplate, buffer);
-                    inserted += result[0];
-                    failed += result[1];
-                    buffer.clear();
+                ParsedChunk chunk;
+                while ((chunk = reorder.remove(nextSeq)) != null) {
+                    nextSeq++;
+                    for (SchoolRow row : chunk.rows()) {
+                        if (!admit.test(row)) continue;
+
+                        buffer.add(row);
+                        if (buffer.size() >= batchSize) {
+                            batchWriter.accept(buffer);
+                            buffer.clear();
+                            advance(buffered, flushed, watermark, job);
+                        }
+                    }
+                    buffered.add(chunk);
+                    if (buffer.isEmpty()) advance(buffered, flushed, watermark, job);
                 }
             }
+            if (!reorder.isEmpty()) {
+                throw new IllegalStateException("CSV 청크 누락: seq " + nextSeq + " 이후 " + reorder.size() + "개를 처리하지 못했습니다.");
+            }
             if (!buffer.isEmpty()) {
-                int[] result = saveBatch(txTemplate, buffer);
-                inserted += result[0];
-                failed += result[1];
+                batchWriter.accept(buffer);
                 buffer.clear();
             }
+            advance(buffered, flushed, watermark, job);
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            throw e;
+        }
+    }
+
+    // buffered 청크를 저장 완료로 옮기고, 이어진 구간만큼 체크포인트 전진
+    private static void advance(List<ParsedChunk> buffered, Map<Long, Integer> flushed, long[] watermark, BulkLoadJob job) {
+        buffered.forEach(chunk -> flushed.put(chunk.seq(), chunk.records()));
+        buffered.clear();
 
-        } catch (Exception e) {
-            throw new RuntimeException("CSV 읽기 실패", e);
+        long before = watermark[1];
+        Integer records;
+        while ((records = flushed.remove(watermark[0])) != null) {
+            watermark[0]++;
+            watermark[1] += records;
         }
-        return new LoadResult(inserted, skipped, failed);
+        if (watermark[1] != before) job.checkpoint(watermark[1]);
     }
 
-    private int[] saveBatch(TransactionTemplate txTemplate, List<School> batch) {
-        final int[] result = new int[2]; // [inserted, failed]
-        txTemplate.executeWithoutResult(status -> {
-            try {
-                schoolRepository.saveAll(batch);
-                result[0] = batch.size();
-            } catch (Exception e) {
-                // 배치 실패 시 개별로 시도
-                int failed = 0;
-                for (School s : batch) {
-                    try {
-                        schoolRepository.save(s);
-                    } catch (Exception ex) {
-                        failed++;
-                    }
+    private int saveBatch(TransactionTemplate txTemplate, List<SchoolRow> batch, AtomicLong failed) {
+        try {
+            txTemplate.executeWithoutResult(status -> insertRows(batch));
+            return batch.size();
+        } catch (DataAccessException e) {
+            // 배치 실패 시 행마다 별도 트랜잭션으로 다시 시도
+            int saved = 0;
+            for (SchoolRow row : batch) {
+                try {
+                    txTemplate.executeWithoutResult(status -> insertRows(List.of(row)));
+                    saved++;
+                } catch (DataAccessException ex) {
+                    log.warn("학교 저장 실패: {} ({})", row.name(), ex.getMessage());
+                    failed.incrementAndGet();
                 }
-                result[0] = batch.size() - failed;
-                result[1] = failed;
+            }
+            return saved;
+        }
+    }
+
+    // 트랜잭션 안에서 호출: 시퀀스 값을 한 번에 받아 배치 insert, 커밋 후 인덱스 갱신 이벤트
+    private void insertRows(List<SchoolRow> rows) {
+        List<Long> ids = allocateIds(rows.size());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SchoolRow row = rows.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, row.city());
+                ps.setString(3, row.name());
+                setDouble(ps, 4, row.land());
+                setDouble(ps, 5, row.area());
+                ps.setString(6, row.phone());
+                ps.setString(7, row.address());
+                setDouble(ps, 8, row.lon());
+                setDouble(ps, 9, row.lat());
+                ps.setString(10, row.imgPath());
+                ps.setString(11, row.imgName());
+                ps.setInt(12, row.parkCount());
+                ps.setString(13, row.rowHash());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
             }
         });
-        return result;
+
+        eventPublisher.publishEvent(new SchoolsChangedEvent(ids));
+    }
+
+    // 필요한 블록 수만큼만 NEXTVAL 을 받아 id 로 펼친다
+    private List<Long> allocateIds(int count) {
+        if ("none".equals(idOptimizer)) {
+            // 블록 시작값만 쓰므로 증가폭이 50 이어도 겹치지 않는다
+            return jdbcTemplate.queryForList(NEXT_BLOCKS_SQL, Long.class, count);
+        }
+        int blocks = (count + SEQ_INCREMENT - 1) / SEQ_INCREMENT;
+        List<Long> starts = jdbcTemplate.queryForList(NEXT_BLOCKS_SQL, Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long start : starts) {
+            for (int i = 0; i < SEQ_INCREMENT && ids.size() < count; i++) {
+                ids.add(start + i);
+            }
+        }
+        return ids;
+    }
+
+    // 이름 기준 MERGE. 기존 해시와 같은 행은 보내지 않는다
+    private void mergeBatch(TransactionTemplate txTemplate, List<SchoolRow> batch, BulkLoadJob job) {
+        // 같은 배치 안에 같은 이름이 있으면 뒤의 값 사용
+        Map<String, SchoolRow> byName = new LinkedHashMap<>();
+        batch.forEach(row -> byName.put(row.name(), row));
+
+        Map<String, String> currentHashes = new HashMap<>();
+        jdbcTemplate.query("SELECT SCHOOL_NAME, ROW_HASH FROM TBL_SCHOOL WHERE SCHOOL_NAME IN (" + placeholders(byName.size()) + ")",
+                rs -> { currentHashes.put(rs.getString(1), rs.getString(2)); },
+                byName.keySet().toArray());
+
+        List<SchoolRow> changed = new ArrayList<>();
+        for (SchoolRow row : byName.values()) {
+            if (!currentHashes.containsKey(row.name())) changed.add(row);
+            else if (row.rowHash().equals(currentHashes.get(row.name()))) job.getUnchanged().incrementAndGet();
+            else changed.add(row);
+        }
+        if (changed.isEmpty()) return;
+
+        try {
+            txTemplate.executeWithoutResult(status -> mergeRows(changed));
+            changed.forEach(row -> countMerged(job, currentHashes.containsKey(row.name())));
+        } catch (DataAccessException e) {
+            // 배치 실패 시 행마다 별도 트랜잭션으로 다시 시도
+            for (SchoolRow row : changed) {
+                try {
+                    txTemplate.executeWithoutResult(status -> mergeRows(List.of(row)));
+                    countMerged(job, currentHashes.containsKey(row.name()));
+                } catch (DataAccessException ex) {
+                    log.warn("학교 동기화 실패: {} ({})", row.name(), ex.getMessage());
+                    job.getFailed().incrementAndGet();
+                }
+            }
+        }
     }
 
-    private String safe(String[] arr, int idx) {
-        if (idx >= arr.length) return null;
-        String v = arr[idx].trim();
+    // 트랜잭션 안에서 호출: MERGE 배치 후 바뀐 학교 id 로 인덱스 갱신 이벤트
+    private void mergeRows(List<SchoolRow> rows) {
+        jdbcTemplate.batchUpdate(MERGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SchoolRow row = rows.get(i);
+                ps.setString(1, row.city());
+                ps.setString(2, row.name());
+                setDouble(ps, 3, row.land());
+                setDouble(ps, 4, row.area());
+                ps.setString(5, row.phone());
+                ps.setString(6, row.address());
+                setDouble(ps, 7, row.lon());
+                setDouble(ps, 8, row.lat());
+                ps.setString(9, row.imgPath());
+                ps.setString(10, row.imgName());
+                ps.setInt(11, row.parkCount());
+                ps.setString(12, row.rowHash());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT ID FROM TBL_SCHOOL WHERE SCHOOL_NAME IN (" + placeholders(rows.size()) + ")",
+                Long.class, rows.stream().map(SchoolRow::name).toArray());
+        eventPublisher.publishEvent(new SchoolsChangedEvent(ids));
+    }
+
+    private static void countMerged(BulkLoadJob job, boolean existed) {
+        (existed ? job.getUpdated() : job.getInserted()).incrementAndGet();
+    }
+
+    private static SchoolRow toRow(String city, String name, Double land, Double area, String phone, String address,
+                                   Double lon, Double lat, String imgPath, String imgName, Integer parkCount) {
+        String hash = rowHash(city, name, land, area, phone, address, lon, lat, imgPath, imgName, parkCount);
+        return new SchoolRow(city, name, land, area, phone, address, lon, lat, imgPath, imgName, parkCount, hash);
+    }
+
+    // 필드 값을 구분자로 이어 SHA-256 (null 은 빈 값)
+    private static String rowHash(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (Object value : values) {
+            sb.append(value == null ? "" : value).append('\u001F');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.DOUBLE);
+        else ps.setDouble(index, value);
+    }
+
+    // 다른 단계가 실패해서 멈췄다는 표시 (원인이 아님)
+    private static class PipelineAbortedException extends IllegalStateException {
+        PipelineAbortedException() {
+            super("적재 파이프라인 중단");
+        }
+    }
+
+    // 뒤 단계가 멈추면 (aborted) 기다리지 않고 빠져나온다
+    private static <T> void put(BlockingQueue<T> queue, T item, AtomicBoolean aborted) throws InterruptedException {
+        while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+            if (aborted.get()) throw new PipelineAbortedException();
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> queue, AtomicBoolean aborted) throws InterruptedException {
+        while (true) {
+            T item = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (item != null) return item;
+            if (aborted.get()) throw new PipelineAbortedException();
+        }
+    }
+
+    private String safe(List<String> record, int idx) {
+        if (idx >= record.size()) return null;
+        String v = record.get(idx).trim();
         if (v.isEmpty() || v.equalsIgnoreCase("#N/A")) return null;
         return v;
     }
@@ -149,5 +610,9 @@ public class SchoolBulkLoadService {
         if (s == null) return null;
         try { return Double.parseDouble(s); } catch (Exception e) { return null; }
     }
+    private Integer parseIntegerOrNull(String s) {
+        if (s == null) return null;
+        try { return Integer.parseInt(s); } catch (Exception e) { return null; }
+    }
 
 }
@@ -0,0 +1,14 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.SchoolClusterDTO;
+
+import java.util.List;
+
+// 줌 레벨별 학교 마커 클러스터
+public interface SchoolClusterIndex {
+
+    public List<SchoolClusterDTO> getClusters(double minLat, double minLon, double maxLat, double maxLon, int zoom);
+
+    // DB 기준으로 전체를 다시 만든다
+    public void rebuild();
+}
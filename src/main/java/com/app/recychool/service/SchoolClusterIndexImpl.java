@@ -0,0 +1,229 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.SchoolClusterDTO;
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.domain.event.SchoolsLoadedEvent;
+import com.app.recychool.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 격자 클러스터.
+ * Web Mercator 픽셀 좌표를 CELL_PIXELS 크기 격자로 나누고, 줌마다 "격자 → 학교 수 / 좌표 합 / 학교 id" 를 미리 집계해 둔다.
+ * 학교가 추가/수정되면 해당 학교만 모든 줌의 격자에서 빼고 다시 넣는다.
+ * MAX_ZOOM 보다 크게 확대하면 학교 하나씩 (count = 1) 내려준다.
+ * 이때는 전체 학교를 훑지 않고 SchoolSpatialIndex(STRtree) 로 화면 영역만 찾고, 최대 MAX_POINTS 개로 자른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchoolClusterIndexImpl implements SchoolClusterIndex {
+
+    private static final int MIN_ZOOM = 5;
+    private static final int MAX_ZOOM = 16;
+    private static final int TILE_PIXELS = 256;
+    private static final int CELL_PIXELS = 64;
+    private static final int MAX_POINTS = 500;
+
+    private final SchoolRepository schoolRepository;
+    private final SchoolSpatialIndex schoolSpatialIndex;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, SchoolPoint> points = new HashMap<>();
+    // zoom - MIN_ZOOM → (격자 key → 격자)
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+
+    private record SchoolPoint(Long schoolId, String schoolName, double lat, double lon) {}
+
+    private static final class Cell {
+        private final Set<Long> schoolIds = new HashSet<>();
+        private double sumLat;
+        private double sumLon;
+        private volatile SchoolPoint representative;
+    }
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(SchoolsLoadedEvent.class)
+    public void load() {
+        rebuild();
+        log.info("학교 클러스터 적재: schools={}", points.size());
+    }
+
+    @Override
+    public void rebuild() {
+        List<SchoolMapDTO> all = schoolRepository.findMapPoints();
+
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            levels.clear();
+            for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+                levels.add(new HashMap<>());
+            }
+            all.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 학교 적재 후 바뀐 학교만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        if (event.isFull()) {
+            rebuild();
+            return;
+        }
+
+        Map<Long, SchoolMapDTO> changed = new HashMap<>();
+        for (SchoolMapDTO school : schoolRepository.findMapPointsByIds(event.schoolIds())) {
+            changed.put(school.getSchoolId(), school);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : event.schoolIds()) {
+                remove(id);
+                SchoolMapDTO school = changed.get(id);
+                if (school != null) add(school);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<SchoolClusterDTO> getClusters(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        List<SchoolClusterDTO> result = new ArrayList<>();
+
+        if (zoom > MAX_ZOOM) {
+            for (SchoolMapDTO school : schoolSpatialIndex.findInBounds(minLat, minLon, maxLat, maxLon, MAX_POINTS, id -> true)) {
+                result.add(new SchoolClusterDTO(1, school.getX(), school.getY(), school.getSchoolId(), school.getSchoolName()));
+            }
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            int level = Math.max(MIN_ZOOM, zoom);
+            Map<Long, Cell> cells = levels.get(level - MIN_ZOOM);
+
+            // 화면 좌상단 / 우하단 격자 (Mercator y 는 위도가 클수록 작다)
+            long fromX = cellOf(lonToPixel(minLon, level));
+            long toX = cellOf(lonToPixel(maxLon, level));
+            long fromY = cellOf(latToPixel(maxLat, level));
+            long toY = cellOf(latToPixel(minLat, level));
+
+            if ((toX - fromX + 1) * (toY - fromY + 1) <= cells.size()) {
+                for (long cx = fromX; cx <= toX; cx++) {
+                    for (long cy = fromY; cy <= toY; cy++) {
+                        Cell cell = cells.get(key(cx, cy));
+                        if (cell != null) result.add(toDto(cell));
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                    long cx = entry.getKey() >> 32;
+                    long cy = entry.getKey() & 0xffffffffL;
+                    if (cx >= fromX && cx <= toX && cy >= fromY && cy <= toY) {
+                        result.add(toDto(entry.getValue()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // write lock 안에서 호출
+    private void add(SchoolMapDTO school) {
+        if (school.getX() == null || school.getY() == null) return;
+
+        SchoolPoint point = new SchoolPoint(school.getSchoolId(), school.getSchoolName(), school.getY(), school.getX());
+        points.put(point.schoolId(), point);
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Cell cell = levels.get(zoom - MIN_ZOOM).computeIfAbsent(cellKey(point, zoom), k -> new Cell());
+            cell.schoolIds.add(point.schoolId());
+            cell.sumLat += point.lat();
+            cell.sumLon += point.lon();
+            cell.representative = null;
+        }
+    }
+
+    private void remove(Long schoolId) {
+        SchoolPoint point = points.remove(schoolId);
+        if (point == null) return;
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Map<Long, Cell> cells = levels.get(zoom - MIN_ZOOM);
+            long key = cellKey(point, zoom);
+            Cell cell = cells.get(key);
+            if (cell == null) continue;
+
+            cell.schoolIds.remove(schoolId);
+            cell.sumLat -= point.lat();
+            cell.sumLon -= point.lon();
+            cell.representative = null;
+            if (cell.schoolIds.isEmpty()) cells.remove(key);
+        }
+    }
+
+    // read lock 안에서 호출. 대표 학교는 처음 조회할 때 계산해서 격자가 바뀔 때까지 재사용
+    private SchoolClusterDTO toDto(Cell cell) {
+        int count = cell.schoolIds.size();
+        double lat = cell.sumLat / count;
+        double lon = cell.sumLon / count;
+
+        SchoolPoint representative = cell.representative;
+        if (representative == null) {
+            double best = Double.MAX_VALUE;
+            for (Long id : cell.schoolIds) {
+                SchoolPoint point = points.get(id);
+                double d = (point.lat() - lat) * (point.lat() - lat) + (point.lon() - lon) * (point.lon() - lon);
+                if (d < best) {
+                    best = d;
+                    representative = point;
+                }
+            }
+            cell.representative = representative;
+        }
+        return new SchoolClusterDTO(count, lon, lat, representative.schoolId(), representative.schoolName());
+    }
+
+    private static long cellKey(SchoolPoint point, int zoom) {
+        return key(cellOf(lonToPixel(point.lon(), zoom)), cellOf(latToPixel(point.lat(), zoom)));
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static long cellOf(double pixel) {
+        return (long) Math.floor(pixel / CELL_PIXELS);
+    }
+
+    private static double lonToPixel(double lon, int zoom) {
+        return (lon + 180.0) / 360.0 * TILE_PIXELS * (1L << zoom);
+    }
+
+    private static double latToPixel(double lat, int zoom) {
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, lat));
+        double rad = Math.toRadians(clamped);
+        double y = (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2;
+        return y * TILE_PIXELS * (1L << zoom);
+    }
+}
@@ -0,0 +1,20 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.SchoolSampleCategory;
+
+import java.util.List;
+
+// 메인 화면 랜덤 학교 추천 (DB 정렬 없이 메모리 id 스냅샷에서 추출)
+public interface SchoolSamplingService {
+
+    // category 에서 중복 없이 최대 count 개 학교를 무작위로 뽑는다
+    public List<School> sample(SchoolSampleCategory category, int count);
+
+    public int size(SchoolSampleCategory category);
+
+    public boolean contains(SchoolSampleCategory category, Long schoolId);
+
+    // DB 기준으로 스냅샷 전체를 다시 만든다
+    public void reload();
+}
@@ -0,0 +1,212 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.enums.SchoolSampleCategory;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.domain.event.SchoolsLoadedEvent;
+import com.app.recychool.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카테고리별 학교 id 스냅샷을 메모리에 들고 있다가 k개를 O(k)로 뽑고,
+ * 뽑힌 id만 PK로 조회한다. (ORDER BY DBMS_RANDOM.VALUE 전체 정렬 제거)
+ * 스냅샷은 학교 적재 / 장소대여 예약 생성 이벤트로 부분 갱신되고 10분마다 DB 기준으로 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchoolSamplingServiceImpl implements SchoolSamplingService {
+
+    private final SchoolRepository schoolRepository;
+
+    private volatile Map<SchoolSampleCategory, IdSet> snapshots = emptySnapshots();
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(SchoolsLoadedEvent.class)
+    public void load() {
+        reload();
+        log.info("학교 랜덤 추천 스냅샷 적재: all={}, parking={}, noPlace={}",
+                size(SchoolSampleCategory.ALL),
+                size(SchoolSampleCategory.HAS_PARKING),
+                size(SchoolSampleCategory.NO_PLACE_RESERVE));
+    }
+
+    @Scheduled(cron = "0 5/10 * * * *")
+    public void scheduledReload() {
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        Map<SchoolSampleCategory, IdSet> loaded = new EnumMap<>(SchoolSampleCategory.class);
+        loaded.put(SchoolSampleCategory.ALL, new IdSet(schoolRepository.findAllIds()));
+        loaded.put(SchoolSampleCategory.HAS_PARKING, new IdSet(schoolRepository.findIdsWithParking()));
+        loaded.put(SchoolSampleCategory.NO_PLACE_RESERVE,
+                new IdSet(schoolRepository.findIdsWithoutReserve(ReserveType.PLACE)));
+        loaded.put(SchoolSampleCategory.NO_PARKING_RESERVE,
+                new IdSet(schoolRepository.findIdsWithoutReserve(ReserveType.PARKING)));
+        snapshots = loaded;
+    }
+
+    @Override
+    public List<School> sample(SchoolSampleCategory category, int count) {
+        List<Long> ids = snapshots.get(category).sample(count);
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        // findAllById 는 순서를 보장하지 않으므로 뽑힌 순서대로 다시 정렬
+        Map<Long, School> byId = new HashMap<>();
+        for (School school : schoolRepository.findAllById(ids)) {
+            byId.put(school.getId(), school);
+        }
+
+        List<School> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            School school = byId.get(id);
+            if (school != null) result.add(school);
+        }
+        return result;
+    }
+
+    @Override
+    public int size(SchoolSampleCategory category) {
+        return snapshots.get(category).size();
+    }
+
+    @Override
+    public boolean contains(SchoolSampleCategory category, Long schoolId) {
+        return snapshots.get(category).contains(schoolId);
+    }
+
+    // 학교가 추가/수정되면 해당 id만 다시 분류
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        if (event.isFull()) {
+            reload();
+            return;
+        }
+
+        Map<SchoolSampleCategory, IdSet> current = snapshots;
+        Map<Long, School> schools = new LinkedHashMap<>();
+        for (School school : schoolRepository.findAllById(event.schoolIds())) {
+            schools.put(school.getId(), school);
+        }
+        Set<Long> placeReserved = new HashSet<>(schoolRepository.findIdsWithReserve(event.schoolIds(), ReserveType.PLACE));
+        Set<Long> parkingReserved = new HashSet<>(schoolRepository.findIdsWithReserve(event.schoolIds(), ReserveType.PARKING));
+
+        for (Long id : event.schoolIds()) {
+            School school = schools.get(id);
+            if (school == null) {
+                // 삭제된 학교
+                current.values().forEach(set -> set.remove(id));
+                continue;
+            }
+
+            current.get(SchoolSampleCategory.ALL).add(id);
+            current.get(SchoolSampleCategory.HAS_PARKING)
+                    .set(id, school.getSchoolParkCount() != null && school.getSchoolParkCount() > 0);
+            current.get(SchoolSampleCategory.NO_PLACE_RESERVE).set(id, !placeReserved.contains(id));
+            current.get(SchoolSampleCategory.NO_PARKING_RESERVE).set(id, !parkingReserved.contains(id));
+        }
+    }
+
+    // 예약이 생기면 (상태와 무관하게) 더 이상 해당 유형의 "예약 없는 학교"가 아니다
+    @TransactionalEventListener
+    public void onReserveStatusChanged(ReserveStatusChangedEvent event) {
+        if (event.fromStatus() != null) return;
+
+        SchoolSampleCategory category = event.reserveType() == ReserveType.PLACE
+                ? SchoolSampleCategory.NO_PLACE_RESERVE
+                : SchoolSampleCategory.NO_PARKING_RESERVE;
+        snapshots.get(category).remove(event.schoolId());
+    }
+
+    private static Map<SchoolSampleCategory, IdSet> emptySnapshots() {
+        Map<SchoolSampleCategory, IdSet> empty = new EnumMap<>(SchoolSampleCategory.class);
+        for (SchoolSampleCategory category : SchoolSampleCategory.values()) {
+            empty.put(category, new IdSet(List.of()));
+        }
+        return empty;
+    }
+
+    // 배열 + 위치 인덱스: 추가/삭제 O(1) (삭제는 마지막 원소와 자리 바꿈), 임의 접근 O(1)
+    private static final class IdSet {
+        private final List<Long> ids;
+        private final Map<Long, Integer> positions;
+
+        IdSet(Collection<Long> source) {
+            ids = new ArrayList<>(source.size());
+            positions = new HashMap<>(source.size() * 2);
+            for (Long id : source) add(id);
+        }
+
+        synchronized void add(Long id) {
+            if (positions.containsKey(id)) return;
+            positions.put(id, ids.size());
+            ids.add(id);
+        }
+
+        synchronized void remove(Long id) {
+            Integer pos = positions.remove(id);
+            if (pos == null) return;
+
+            Long last = ids.remove(ids.size() - 1);
+            if (pos < ids.size()) {
+                ids.set(pos, last);
+                positions.put(last, pos);
+            }
+        }
+
+        void set(Long id, boolean present) {
+            if (present) add(id);
+            else remove(id);
+        }
+
+        synchronized boolean contains(Long id) {
+            return positions.containsKey(id);
+        }
+
+        synchronized int size() {
+            return ids.size();
+        }
+
+        synchronized List<Long> sample(int count) {
+            int n = ids.size();
+            if (count <= 0 || n == 0) return new ArrayList<>();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (count >= n) {
+                List<Long> all = new ArrayList<>(ids);
+                Collections.shuffle(all, random);
+                return all;
+            }
+
+            // k 가 n 에 비해 작으므로 중복된 위치만 다시 뽑는다 (기대 O(k))
+            Set<Integer> picked = new HashSet<>(count * 2);
+            List<Long> result = new ArrayList<>(count);
+            while (result.size() < count) {
+                int pos = random.nextInt(n);
+                if (picked.add(pos)) result.add(ids.get(pos));
+            }
+            return result;
+        }
+    }
+}
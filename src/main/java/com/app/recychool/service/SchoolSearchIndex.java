@@ -0,0 +1,14 @@
+package com.app.recychool.service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// 학교 이름 / 시군구 / 주소 n-gram 검색 인덱스
+public interface SchoolSearchIndex {
+
+    // 공백으로 나눈 모든 토큰을 포함하는 학교 id를 점수순으로 반환 (filter 통과한 것만)
+    public List<Long> search(String query, Predicate<Long> filter, int page, int size);
+
+    // DB 기준으로 인덱스 전체를 다시 만든다
+    public void rebuild();
+}
@@ -0,0 +1,230 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.domain.event.SchoolsLoadedEvent;
+import com.app.recychool.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 학교 이름 / 시군구 / 주소에 대한 메모리 역색인.
+ * 한글은 띄어쓰기 없이 검색하는 경우가 많아서 공백을 뺀 문자열의 1-gram, 2-gram 을 키로 쓴다.
+ * 토큰마다 n-gram posting 교집합으로 후보를 좁히고, 실제 포함 여부를 확인한 뒤 점수를 매긴다.
+ * 점수: 이름 3점(이름이 토큰으로 시작하면 +1), 시군구 2점, 주소 1점(주소가 토큰으로 시작하면 +1)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchoolSearchIndexImpl implements SchoolSearchIndex {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SchoolRepository schoolRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    private record Doc(String name, String city, String address) {}
+
+    private record Hit(Long id, int score, String name) {}
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(SchoolsLoadedEvent.class)
+    public void load() {
+        rebuild();
+        log.info("학교 검색 인덱스 적재: schools={}, grams={}", docs.size(), postings.size());
+    }
+
+    @Override
+    public void rebuild() {
+        List<School> schools = schoolRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+            schools.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 학교가 추가/수정되면 해당 id만 다시 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        if (event.isFull()) {
+            rebuild();
+            return;
+        }
+
+        Map<Long, School> schools = new HashMap<>();
+        for (School school : schoolRepository.findAllById(event.schoolIds())) {
+            schools.put(school.getId(), school);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : event.schoolIds()) {
+                unindex(id);
+                School school = schools.get(id);
+                if (school != null) index(school);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query, Predicate<Long> filter, int page, int size) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || size <= 0 || page < 0) return new ArrayList<>();
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(tokens)) {
+                if (!filter.test(id)) continue;
+
+                Doc doc = docs.get(id);
+                int score = 0;
+                for (String token : tokens) {
+                    int tokenScore = score(doc, token);
+                    if (tokenScore == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += tokenScore;
+                }
+                if (score > 0) hits.add(new Hit(id, score, doc.name()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::name));
+
+        // page * size 가 int 범위를 넘지 않도록 long 으로 계산
+        long from = (long) page * pageSize;
+        if (from >= hits.size()) return new ArrayList<>();
+        int to = (int) Math.min(from + pageSize, hits.size());
+
+        List<Long> result = new ArrayList<>(to - (int) from);
+        for (Hit hit : hits.subList((int) from, to)) {
+            result.add(hit.id());
+        }
+        return result;
+    }
+
+    // 가장 짧은 posting 부터 교집합 (read lock 안에서 호출)
+    private Set<Long> candidates(List<String> tokens) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokens) {
+            for (String gram : grams(token)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) return Set.of();
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private int score(Doc doc, String token) {
+        int score = 0;
+        if (doc.name().contains(token)) score += doc.name().startsWith(token) ? 4 : 3;
+        if (doc.city().contains(token)) score += 2;
+        if (doc.address().contains(token)) score += doc.address().startsWith(token) ? 2 : 1;
+        return score;
+    }
+
+    // write lock 안에서 호출
+    private void index(School school) {
+        Doc doc = new Doc(
+                normalize(school.getSchoolName()),
+                normalize(school.getSchoolCity()),
+                normalize(school.getSchoolAddress()));
+        docs.put(school.getId(), doc);
+
+        for (String gram : docGrams(doc)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(school.getId());
+        }
+    }
+
+    private void unindex(Long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) return;
+
+        for (String gram : docGrams(doc)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    private static Set<String> docGrams(Doc doc) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, doc.name());
+        addGrams(grams, doc.city());
+        addGrams(grams, doc.address());
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) grams.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 토큰의 2-gram (한 글자 토큰은 1-gram)
+    private static Set<String> grams(String token) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (token.length() == 1) {
+            grams.add(token);
+            return grams;
+        }
+        for (int i = 0; i + 1 < token.length(); i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        if (query == null) return tokens;
+
+        for (String token : query.trim().toLowerCase().split("\\s+")) {
+            if (!token.isEmpty() && !tokens.contains(token)) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return "";
+        return value.toLowerCase().replaceAll("\\s+", "");
+    }
+}
@@ -1,16 +1,22 @@
 package com.app.recychool.service;
 
+import com.app.recychool.domain.dto.SchoolListDTO;
+import com.app.recychool.domain.dto.SchoolListPageDTO;
 import com.app.recychool.domain.entity.School;
 import io.lettuce.core.dynamic.annotation.Param;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SchoolService {
-    public List<School> getSchoolAll();
+    public SchoolListPageDTO getSchoolPage(Long cursor, int size, String region);
+    // 전체 목록을 한 건씩 consumer 로 넘긴다 (메모리에 모으지 않음)
+    public void streamSchoolList(Consumer<SchoolListDTO> consumer);
     public List<School> getSchoolsWithoutPlaceReservation();
     public List<School> getFourRandomSchool();
+    public List<School> getParkingLotSchools();
 
     //
-    public List<School> getSchoolsWithoutPlaceReservationByRegion(String region);
-    public List<School> getSchoolsWithoutParkingReservationByRegion(String name);
+    public List<School> getSchoolsWithoutPlaceReservationByRegion(String region, int page, int size);
+    public List<School> getSchoolsWithoutParkingReservationByRegion(String region, int page, int size);
 }
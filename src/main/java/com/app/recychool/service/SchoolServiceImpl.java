@@ -1,42 +1,95 @@
 package com.app.recychool.service;
 
 import com.app.recychool.domain.dto.SchoolDTO;
+import com.app.recychool.domain.dto.SchoolListDTO;
+import com.app.recychool.domain.dto.SchoolListPageDTO;
 import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.SchoolSampleCategory;
 import com.app.recychool.repository.SchoolRepository;
 import io.lettuce.core.dynamic.annotation.Param;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
 @RequiredArgsConstructor
 public class SchoolServiceImpl implements SchoolService {
+    private static final int RANDOM_SCHOOL_COUNT = 4;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SchoolRepository schoolRepository;
+    private final SchoolSamplingService schoolSamplingService;
+    private final SchoolSearchIndex schoolSearchIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SchoolListPageDTO getSchoolPage(Long cursor, int size, String region) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long after = cursor == null ? 0L : cursor;
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<SchoolListDTO> rows = region == null || region.isBlank()
+                ? schoolRepository.findListAfter(after, PageRequest.of(0, pageSize + 1))
+                : schoolRepository.findListByRegionAfter(region, after, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SchoolListDTO> schools = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        Long nextCursor = hasNext ? schools.get(schools.size() - 1).getId() : null;
+        return new SchoolListPageDTO(schools, nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSchoolList(Consumer<SchoolListDTO> consumer) {
+        try (Stream<SchoolListDTO> stream = schoolRepository.streamList()) {
+            stream.forEach(consumer);
+        }
+    }
 
     @Override
-    public List<School> getSchoolAll() {
-        return schoolRepository.findAll();
+    public List<School> getSchoolsWithoutPlaceReservation() {
+        return schoolSamplingService.sample(SchoolSampleCategory.NO_PLACE_RESERVE, RANDOM_SCHOOL_COUNT);
     }
 
     @Override
-    public List<School> getSchoolsWithoutPlaceReservation() { return schoolRepository.findSchoolsWithoutPlaceReservation();}
+    public List<School> getFourRandomSchool() {
+        return schoolSamplingService.sample(SchoolSampleCategory.ALL, RANDOM_SCHOOL_COUNT);
+    }
 
     @Override
-    public List<School> getFourRandomSchool() { return schoolRepository.findFourRandomSchool();}
+    public List<School> getParkingLotSchools() {
+        return schoolSamplingService.sample(SchoolSampleCategory.HAS_PARKING, RANDOM_SCHOOL_COUNT);
+    }
 
     @Override
-    public List<School> getSchoolsWithoutPlaceReservationByRegion(String region) {
-        // 레포지토리에서 만든 메서드를 호출
-        return schoolRepository.findSchoolsWithoutPlaceReservationByRegion(region);
+    public List<School> getSchoolsWithoutPlaceReservationByRegion(String region, int page, int size) {
+        return searchSchools(region, SchoolSampleCategory.NO_PLACE_RESERVE, page, size);
     }
 
 
     @Override
-    public List<School> getSchoolsWithoutParkingReservationByRegion(String region) {
-        return schoolRepository.findSchoolsWithoutParkingReservationByRegion(region);
+    public List<School> getSchoolsWithoutParkingReservationByRegion(String region, int page, int size) {
+        return searchSchools(region, SchoolSampleCategory.NO_PARKING_RESERVE, page, size);
+    }
+
+    // 검색 인덱스에서 순위대로 id를 받아 그 순서대로 학교를 조회
+    private List<School> searchSchools(String region, SchoolSampleCategory category, int page, int size) {
+        List<Long> ids = schoolSearchIndex.search(region, id -> schoolSamplingService.contains(category, id), page, size);
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, School> byId = schoolRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(School::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 }
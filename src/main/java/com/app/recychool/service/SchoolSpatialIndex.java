@@ -0,0 +1,19 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// 학교 좌표 공간 인덱스 (WGS84 위경도)
+public interface SchoolSpatialIndex {
+
+    // (lat, lon) 에서 maxRadiusMeters 이내의 가까운 학교 최대 limit 개 (거리순)
+    public List<SchoolMapDTO> findNearest(double lat, double lon, double maxRadiusMeters, int limit, Predicate<Long> filter);
+
+    // 지도 화면 영역 안의 학교 최대 limit 개
+    public List<SchoolMapDTO> findInBounds(double minLat, double minLon, double maxLat, double maxLon, int limit, Predicate<Long> filter);
+
+    // DB 기준으로 인덱스를 다시 만든다
+    public void rebuild();
+}
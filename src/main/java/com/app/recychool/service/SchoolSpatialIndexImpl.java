@@ -0,0 +1,189 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.SchoolMapDTO;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.domain.event.SchoolsLoadedEvent;
+import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 학교 좌표 STRtree.
+ * 경도에 cos(기준 위도)를 곱한 평면 좌표로 색인해서 검색 사각형이 반경 원에 가깝게 잡히도록 하고,
+ * 후보만 haversine 거리로 다시 걸러 정렬한다.
+ * STRtree 는 한 번 조회하면 수정할 수 없으므로 좌표는 id → 좌표 맵에 따로 들고,
+ * SchoolsChangedEvent 는 이벤트의 id 만 다시 읽어 맵에 반영한 뒤 트리를 dirty 로 표시한다.
+ * 트리는 다음 조회 때 맵에서 한 번만 다시 만든다 (대량 적재 중 배치마다 전체 재생성 / 전체 조회를 하지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchoolSpatialIndexImpl implements SchoolSpatialIndex {
+
+    // 서울/경기 기준 위도
+    private static final double REFERENCE_LAT = 37.5;
+    private static final double LON_SCALE = Math.cos(Math.toRadians(REFERENCE_LAT));
+    // 가까운 학교 검색 시작 반경 (결과가 모자라면 두 배씩 넓힌다)
+    private static final double INITIAL_RADIUS_METERS = 1_000;
+
+    private final SchoolRepository schoolRepository;
+
+    // 좌표 원본 (this 로 잠근다)
+    private final Map<Long, SchoolPoint> points = new HashMap<>();
+    private volatile STRtree tree = build(List.of());
+    private volatile boolean dirty;
+
+    private record SchoolPoint(Long schoolId, String schoolName, double lat, double lon) {}
+
+    private record Hit(SchoolPoint point, double distance) {}
+
+    // 기동 적재가 끝나면 (StartupBootstrap)
+    @EventListener(SchoolsLoadedEvent.class)
+    public void load() {
+        rebuild();
+        log.info("학교 공간 인덱스 적재: schools={}", tree.size());
+    }
+
+    // 바뀐 id 만 다시 읽는다 (삭제됐거나 좌표가 빠진 학교는 제거)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchoolsChanged(SchoolsChangedEvent event) {
+        if (event.isFull()) {
+            rebuild();
+            return;
+        }
+
+        List<SchoolMapDTO> changed = schoolRepository.findMapPointsByIds(event.schoolIds());
+        synchronized (this) {
+            event.schoolIds().forEach(points::remove);
+            for (SchoolMapDTO school : changed) {
+                SchoolPoint point = toPoint(school);
+                if (point != null) points.put(point.schoolId(), point);
+            }
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        List<SchoolMapDTO> schools = schoolRepository.findMapPoints();
+        synchronized (this) {
+            points.clear();
+            for (SchoolMapDTO school : schools) {
+                SchoolPoint point = toPoint(school);
+                if (point != null) points.put(point.schoolId(), point);
+            }
+            tree = build(points.values());
+            dirty = false;
+        }
+    }
+
+    // 바뀐 뒤 처음 조회할 때만 맵에서 트리를 다시 만든다
+    private STRtree currentTree() {
+        if (!dirty) return tree;
+        synchronized (this) {
+            if (dirty) {
+                tree = build(points.values());
+                dirty = false;
+            }
+            return tree;
+        }
+    }
+
+    @Override
+    public List<SchoolMapDTO> findNearest(double lat, double lon, double maxRadiusMeters, int limit, Predicate<Long> filter) {
+        if (limit <= 0 || maxRadiusMeters <= 0) return new ArrayList<>();
+
+        STRtree current = currentTree();
+        double radius = Math.min(INITIAL_RADIUS_METERS, maxRadiusMeters);
+        while (true) {
+            List<Hit> hits = withinRadius(current, lat, lon, radius, filter);
+
+            // 반경 r 안에 limit 개 이상이면 더 가까운 학교가 밖에 있을 수 없다
+            if (hits.size() >= limit || radius >= maxRadiusMeters) {
+                hits.sort(Comparator.comparingDouble(Hit::distance));
+                List<SchoolMapDTO> result = new ArrayList<>(Math.min(limit, hits.size()));
+                for (Hit hit : hits.subList(0, Math.min(limit, hits.size()))) {
+                    result.add(toDto(hit.point(), hit.distance()));
+                }
+                return result;
+            }
+            radius = Math.min(radius * 2, maxRadiusMeters);
+        }
+    }
+
+    @Override
+    public List<SchoolMapDTO> findInBounds(double minLat, double minLon, double maxLat, double maxLon, int limit, Predicate<Long> filter) {
+        if (limit <= 0) return new ArrayList<>();
+
+        Envelope viewport = new Envelope(toPlaneX(minLon), toPlaneX(maxLon), minLat, maxLat);
+        List<SchoolMapDTO> result = new ArrayList<>();
+        for (Object item : currentTree().query(viewport)) {
+            SchoolPoint point = (SchoolPoint) item;
+            if (!filter.test(point.schoolId())) continue;
+
+            result.add(toDto(point, null));
+            if (result.size() >= limit) break;
+        }
+        return result;
+    }
+
+    private List<Hit> withinRadius(STRtree current, double lat, double lon, double radius, Predicate<Long> filter) {
+        // 위도 축은 1도 = METERS_PER_DEGREE, 경도 축은 실제 위도의 cos 만큼 줄어든 길이를 평면 좌표로 환산
+        double delta = radius / GeoUtil.METERS_PER_DEGREE;
+        double lonDelta = delta * LON_SCALE / Math.max(0.01, Math.cos(Math.toRadians(lat)));
+        double x = toPlaneX(lon);
+        Envelope search = new Envelope(x - lonDelta, x + lonDelta, lat - delta, lat + delta);
+
+        List<Hit> hits = new ArrayList<>();
+        for (Object item : current.query(search)) {
+            SchoolPoint point = (SchoolPoint) item;
+            if (!filter.test(point.schoolId())) continue;
+
+            double distance = GeoUtil.haversine(lat, lon, point.lat(), point.lon());
+            if (distance <= radius) hits.add(new Hit(point, distance));
+        }
+        return hits;
+    }
+
+    private static double toPlaneX(double lon) {
+        return lon * LON_SCALE;
+    }
+
+    private static SchoolMapDTO toDto(SchoolPoint point, Double distance) {
+        return SchoolMapDTO.builder()
+                .schoolId(point.schoolId())
+                .schoolName(point.schoolName())
+                .x(point.lon())
+                .y(point.lat())
+                .distanceMeters(distance == null ? null : Math.round(distance * 10) / 10.0)
+                .build();
+    }
+
+    private static SchoolPoint toPoint(SchoolMapDTO school) {
+        if (school.getX() == null || school.getY() == null) return null;
+        return new SchoolPoint(school.getSchoolId(), school.getSchoolName(), school.getY(), school.getX());
+    }
+
+    private static STRtree build(Collection<SchoolPoint> points) {
+        STRtree built = new STRtree();
+        for (SchoolPoint point : points) {
+            built.insert(new Envelope(toPlaneX(point.lon()), toPlaneX(point.lon()), point.lat(), point.lat()), point);
+        }
+        built.build();
+        return built;
+    }
+}
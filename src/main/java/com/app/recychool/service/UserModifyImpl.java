@@ -16,6 +16,7 @@ public class UserModifyImpl implements UserModify {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthTokenCache authTokenCache;
 
     @Override
     public void updateUserInfo(Long userId, UserUpdateDTO updateDTO) {
@@ -34,6 +35,7 @@ public class UserModifyImpl implements UserModify {
         if (updateDTO.getUserPassword() != null && !updateDTO.getUserPassword().isBlank()) {
             user.setUserPassword(passwordEncoder.encode(updateDTO.getUserPassword()));
         }
+        authTokenCache.evictUser(userId);
     }
 
     @Override
@@ -50,6 +52,7 @@ public class UserModifyImpl implements UserModify {
 
         // 3. 새 비밀번호 암호화 후 저장
         user.setUserPassword(passwordEncoder.encode(dto.getNewPassword()));
+        authTokenCache.evictUser(userId);
     }
 
 }
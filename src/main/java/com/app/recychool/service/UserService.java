@@ -21,6 +21,9 @@ public interface UserService {
   // 회원 정보 조회
   public UserResponseDTO getUserById(Long id);
 
+  // 회원 정보 조회 : (이메일로)
+  public UserResponseDTO getUserByUserEmail(String userEmail);
+
   // 마이페이지 정보 조회
 //  public Map<String, Object> getMyDatas(Long id);
 
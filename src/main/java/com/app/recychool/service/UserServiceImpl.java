@@ -25,6 +25,7 @@ public class UserServiceImpl implements UserService {
   private final PasswordEncoder passwordEncoder;
   private final JwtTokenUtil jwtTokenUtil;
   private final UserSocialRepository userSocialRepository;
+  private final AuthTokenCache authTokenCache;
 
     // 이메일 중복 조회
   @Override
@@ -116,6 +117,11 @@ public class UserServiceImpl implements UserService {
     return userRepository.findById(id).map(UserResponseDTO::new).orElseThrow(() -> new UserException("회원 조회 실패"));
   }
 
+  @Override
+  public UserResponseDTO getUserByUserEmail(String userEmail) {
+    return userRepository.findByUserEmail(userEmail).map(UserResponseDTO::new).orElseThrow(() -> new UserException("회원 조회 실패"));
+  }
+
   // 회원 정보 수정
   @Override
   public UserResponseDTO modify(User user) {
@@ -123,6 +129,7 @@ public class UserServiceImpl implements UserService {
         user.setUserPassword(passwordEncoder.encode(user.getUserPassword()));
     }
     userRepository.save(user);
+    authTokenCache.evictUser(user.getId());
     // 수정 후 업데이트된 사용자 정보 반환
     return getUserById(user.getId());
   }
@@ -132,6 +139,7 @@ public class UserServiceImpl implements UserService {
   public void withdraw(Long id) {
     userSocialRepository.deleteById(id);
     userRepository.deleteById(id);
+    authTokenCache.evictUser(id);
   }
 
 //  로그아웃 시 현재 로그인 상태 변경 서비스
@@ -140,6 +148,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException("유저를 찾을 수 없습니다."));
         user.setUserIsLogin(0);
+        authTokenCache.evictUser(userId);
     }
 
     @Override
@@ -0,0 +1,14 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.WaitlistPromotionStatsDTO;
+
+public interface WaitlistPromotionService {
+
+    // 자리가 빈 학교를 승격 대기열에 올린다
+    public void enqueue(Long schoolId);
+
+    // 대기열을 비우면서 WAITING → PENDING 승격. 승격 건수 반환
+    public int promotePending();
+
+    public WaitlistPromotionStatsDTO getStats();
+}
@@ -0,0 +1,202 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.WaitlistPromotionStatsDTO;
+import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.ReserveOutboxBatchEvent;
+import com.app.recychool.domain.event.ReserveStatusChangedEvent;
+import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주차 자리가 비면 (취소/만료, outbox 로 전달) 해당 학교를 대기열에 올리고,
+ * 스케줄러가 배치로 대기열 맨 앞의 WAITING 예약을 PENDING으로 승격한다.
+ * 승격도 ledger의 tryAdmit을 거치므로 학교/날짜별 수용량을 넘지 않는다.
+ * 대기 중에 다른 주차 예약이 잡힌 사용자는 (주차 1건 제한) 승격하지 않고 대기를 취소한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistPromotionServiceImpl implements WaitlistPromotionService {
+
+    private static final int PARKING_AREA_PER_CAR = 100;
+    private static final List<ReserveStatus> ACTIVE_STATUSES =
+            List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED);
+
+    private final ReserveRepository reserveRepository;
+    private final SchoolRepository schoolRepository;
+    private final ParkingCapacityLedger parkingCapacityLedger;
+    private final ReserveLockService reserveLockService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.waitlist.batch-size:50}")
+    private int batchSize;
+
+    // 같은 학교가 여러 번 들어와도 한 번만 처리 (값: 처음 들어온 시각)
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder releasedEvents = new LongAdder();
+    private final LongAdder promotedCount = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder latencyCount = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    // outbox 를 통해 받으므로 서버가 재시작돼도 자리 반환 이벤트를 놓치지 않는다
+    @EventListener
+    public void onOutboxBatch(ReserveOutboxBatchEvent batch) {
+        for (ReserveStatusChangedEvent event : batch.events()) {
+            if (!event.releasesParkingSeat()) continue;
+
+            releasedEvents.increment();
+            enqueue(event.schoolId());
+        }
+    }
+
+    @Override
+    public void enqueue(Long schoolId) {
+        if (pending.putIfAbsent(schoolId, System.currentTimeMillis()) == null) {
+            queue.offer(schoolId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.promotion-delay-ms:1000}")
+    public void scheduledPromote() {
+        int promoted = promotePending();
+        if (promoted > 0) {
+            log.info("주차 대기 승격: {}건", promoted);
+        }
+    }
+
+    @Override
+    public int promotePending() {
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        Long schoolId;
+        while ((schoolId = queue.poll()) != null) {
+            Long enqueuedAt = pending.remove(schoolId);
+
+            try {
+                for (LocalDate date : reserveRepository.findWaitingStartDates(schoolId, LocalDate.now())) {
+                    Long id = schoolId;
+                    Integer promoted = txTemplate.execute(status -> promoteDate(id, date));
+                    total += promoted == null ? 0 : promoted;
+                }
+            } catch (Exception e) {
+                log.error("주차 대기 승격 실패: schoolId={}", schoolId, e);
+                enqueue(schoolId);
+                break;
+            }
+
+            if (enqueuedAt != null) {
+                recordLatency(System.currentTimeMillis() - enqueuedAt);
+            }
+        }
+        return total;
+    }
+
+    // (학교, 날짜) 대기열 맨 앞부터 자리가 있는 만큼 승격 (트랜잭션 안에서 호출)
+    private int promoteDate(Long schoolId, LocalDate date) {
+        School school = schoolRepository.findById(schoolId).orElse(null);
+        if (school == null || school.getSchoolLand() == null) return 0;
+
+        int capacity = (int) Math.floor(school.getSchoolLand() / PARKING_AREA_PER_CAR);
+        if (capacity <= 0) return 0;
+
+        // 새 대기 등록과 대기번호가 엇갈리지 않도록 예약 생성과 같은 락을 잡는다
+        reserveLockService.lockUntilCompletion(schoolId, date, ReserveType.PARKING);
+
+        List<Reserve> head = reserveRepository.findWaitingQueue(
+                schoolId,
+                ReserveType.PARKING,
+                ReserveStatus.WAITING,
+                date,
+                PageRequest.of(0, batchSize)
+        );
+
+        int promoted = 0;
+        int removed = 0; // 대기열 앞에서 빠진 수 (승격 + 제한 초과로 취소)
+        for (Reserve reserve : head) {
+            // 대기 등록 이후 다른 주차 예약이 활성화됐으면 승격하지 않는다 (앞에서 승격한 건은 자동 flush 로 포함)
+            if (reserveRepository.existsByUserIdAndReserveTypeAndReserveStatusIn(
+                    reserve.getUser().getId(), ReserveType.PARKING, ACTIVE_STATUSES)) {
+                reserve.setReserveStatus(ReserveStatus.CANCELED);
+                reserve.setWaitingOrder(null);
+                eventPublisher.publishEvent(ReserveStatusChangedEvent.of(reserve, ReserveStatus.WAITING));
+                removed++;
+                continue;
+            }
+            if (!parkingCapacityLedger.tryAdmit(schoolId, date, reserve.getEndDate(), capacity)) {
+                break;
+            }
+            reserve.promote();
+            eventPublisher.publishEvent(ReserveStatusChangedEvent.of(reserve, ReserveStatus.WAITING));
+            promoted++;
+            removed++;
+        }
+
+        if (removed > 0) {
+            reserveRepository.pullWaitingOrders(
+                    schoolId,
+                    ReserveType.PARKING,
+                    ReserveStatus.WAITING,
+                    date,
+                    removed
+            );
+            if (removed > promoted) {
+                log.info("주차 대기 취소 (사용자 주차 예약 제한): schoolId={}, date={}, count={}",
+                        schoolId, date, removed - promoted);
+            }
+        }
+        if (promoted > 0) {
+            promotedCount.add(promoted);
+            batches.increment();
+        }
+        // 배치를 전부 소화했으면 남은 대기자가 더 있을 수 있으므로 다시 확인
+        if (removed == batchSize) {
+            enqueue(schoolId);
+        }
+        return promoted;
+    }
+
+    private void recordLatency(long millis) {
+        latencySum.add(millis);
+        latencyCount.increment();
+        maxLatency.accumulateAndGet(millis, Math::max);
+    }
+
+    @Override
+    public WaitlistPromotionStatsDTO getStats() {
+        long count = latencyCount.sum();
+        return WaitlistPromotionStatsDTO.builder()
+                .queueDepth(pending.size())
+                .releasedEvents(releasedEvents.sum())
+                .promotedCount(promotedCount.sum())
+                .batches(batches.sum())
+                .avgLatencyMs(count == 0 ? 0.0 : (double) latencySum.sum() / count)
+                .maxLatencyMs(maxLatency.get())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.app.recychool.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 토크나이저.
+ * - 큰따옴표로 감싼 필드 안의 콤마 / 줄바꿈 허용, "" 는 " 하나로 해석
+ * - 줄 끝은 CRLF / LF 모두 허용, 파일 맨 앞 BOM 제거
+ * 레코드를 하나씩 읽으므로 파일 크기와 상관없이 한 줄 분량만 메모리에 올라온다.
+ */
+public final class CsvTokenizer {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean first = true;
+
+    public CsvTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드의 필드 목록, 더 없으면 null
+    public List<String> next() throws IOException {
+        if (first) {
+            first = false;
+            if (peek() == '\uFEFF') read(); // UTF-8 BOM
+        }
+        if (peek() == EOF) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                if (inQuotes) throw new IOException("닫히지 않은 따옴표가 있습니다.");
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (inQuotes) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    if (field.length() == 0 && !quoted) {
+                        inQuotes = true;
+                        quoted = true;
+                    } else {
+                        field.append('"');
+                    }
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    quoted = false;
+                }
+                case '\r', '\n' -> {
+                    if (c == '\r' && peek() == '\n') read();
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (!fill()) return EOF;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (!fill()) return EOF;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) return true;
+
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
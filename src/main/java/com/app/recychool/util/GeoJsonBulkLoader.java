@@ -1,60 +1,40 @@
 package com.app.recychool.util;
 
-import com.app.recychool.domain.entity.Polygons;
-import com.app.recychool.repository.PolygonsRepository;
+import com.app.recychool.service.BulkLoadService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
+// 기동 시 classpath:polygons/*.geojson 을 feature 단위로 스트리밍 적재 (이미 있는 feature 는 건너뜀)
+// 이전에 원본 좌표계로만 적재된 행은 WGS84 변환값을 채운다
+// 파일 내용이 마지막 적재 때와 같으면 DB 를 보지 않고 건너뛴다
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class GeoJsonBulkLoader implements CommandLineRunner {
+public class GeoJsonBulkLoader {
 
-    private final PolygonsRepository polygonsRepository;
+    private static final int BATCH_SIZE = 20;
+    private static final String HASH_KEY = "polygons";
 
-    @Override
-    @Transactional
-    public void run(String... args) throws Exception {
-        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-        Resource[] resources = resolver.getResources("classpath:polygons/*.geojson");
+    private final BulkLoadService bulkLoadService;
+    private final ResourceFingerprint resourceFingerprint;
 
-        Set<String> existing = new HashSet<>(polygonsRepository.findAllPolygonNames());
-
-        int inserted = 0, skipped = 0;
-
-        for(Resource resource : resources){
-            String name = resource.getFilename() != null ? resource.getFilename().replace(".geojson", "") : "";
-            if(existing.contains(name)){
-                skipped++;
-                continue;
-            }
-            try (Reader reader = new BufferedReader(Files.newBufferedReader(resource.getFile().toPath(), StandardCharsets.UTF_8))) {
-                String content = new BufferedReader(Files.newBufferedReader(resource.getFile().toPath(), StandardCharsets.UTF_8))
-                        .lines().collect(Collectors.joining());
-
-                Polygons polygons = Polygons.builder()
-                        .polygonName(name)
-                        .geoJson(content)
-                        .build();
-
-                polygonsRepository.save(polygons);
-                existing.add(name);
-                inserted++;
-            } catch (Exception e) {
-                throw new Exception("파일 삽입 실패");
-            }
+    // StartupBootstrap 이 백그라운드 스레드에서 호출
+    public void load() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath:polygons/*.geojson");
+        String hash = resourceFingerprint.of(resources);
+        if (resourceFingerprint.isUnchanged(HASH_KEY, hash)) {
+            log.info("행정구역 폴리곤 변경 없음. 스킵합니다.");
+            return;
         }
+
+        int inserted = bulkLoadService.loadFromClasspathPolygons(BATCH_SIZE);
+        int normalized = bulkLoadService.normalizeMissing();
+        resourceFingerprint.remember(HASH_KEY, hash);
+        log.info("행정구역 폴리곤 적재 완료: inserted={}, normalized={}", inserted, normalized);
     }
 }
@@ -0,0 +1,128 @@
+package com.app.recychool.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.CoordinateFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// GeoJSON 좌표계 판별 및 WGS84 정규화
+public final class GeoJsonCrs {
+
+    public static final int WGS84 = 4326;
+    public static final int KOREA_2000_UNIFIED = 5179;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = MAPPER.getFactory();
+
+    // WGS84 저장 정밀도 (소수 7자리, 약 1cm)
+    public static final double WGS84_QUANTUM = 1e-7;
+
+    private GeoJsonCrs() {
+    }
+
+    // GeoJSON 에 선언된 crs 가 있으면 그 값, 다음으로 이름 힌트 ("_5179"), 없으면 좌표 범위로 판별
+    public static int detectSrid(Integer declaredSrid, String name, Envelope envelope) {
+        if (declaredSrid != null) {
+            if (declaredSrid != WGS84 && declaredSrid != KOREA_2000_UNIFIED) {
+                throw new IllegalArgumentException("지원하지 않는 좌표계: EPSG:" + declaredSrid);
+            }
+            return declaredSrid;
+        }
+        return detectSrid(name, envelope);
+    }
+
+    // 이름에 "_5179" 같은 힌트가 있으면 우선, 없으면 좌표 범위로 판별
+    public static int detectSrid(String name, Envelope envelope) {
+        if (name != null && name.contains(String.valueOf(KOREA_2000_UNIFIED))) return KOREA_2000_UNIFIED;
+
+        if (envelope.getMinX() >= -180 && envelope.getMaxX() <= 180
+                && envelope.getMinY() >= -90 && envelope.getMaxY() <= 90) {
+            return WGS84;
+        }
+        if (KoreaTmProjection.isInRange(envelope.getMinX(), envelope.getMinY())
+                && KoreaTmProjection.isInRange(envelope.getMaxX(), envelope.getMaxY())) {
+            return KOREA_2000_UNIFIED;
+        }
+        throw new IllegalArgumentException("좌표계를 판별할 수 없습니다: " + envelope);
+    }
+
+    // srid 좌표를 WGS84 (x = 경도, y = 위도) 로 변환한 사본
+    public static Geometry toWgs84(Geometry geometry, int srid) {
+        Geometry copy = geometry.copy();
+        if (srid == WGS84) return copy;
+        if (srid != KOREA_2000_UNIFIED) throw new IllegalArgumentException("지원하지 않는 좌표계: " + srid);
+
+        copy.apply((CoordinateFilter) c -> {
+            double[] latLon = KoreaTmProjection.inverse(c.x, c.y);
+            c.x = latLon[1];
+            c.y = latLon[0];
+        });
+        copy.geometryChanged();
+        return copy;
+    }
+
+    /*
+     * 루트 crs 멤버 (2008 GeoJSON 형식: {"type":"name","properties":{"name":"EPSG:5179"}}) 의 EPSG 코드, 없으면 null.
+     * "EPSG:5179", "urn:ogc:def:crs:EPSG::5179", "urn:ogc:def:crs:OGC:1.3:CRS84" 를 인식한다.
+     * 좌표 배열은 건너뛰며 루트 멤버만 본다.
+     */
+    public static Integer declaredSrid(String geoJson) {
+        try (JsonParser parser = JSON_FACTORY.createParser(geoJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("crs".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    JsonNode crs = MAPPER.readTree(parser);
+                    return parseCrsName(crs.path("properties").path("name").asText(null));
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("GeoJSON 형식 오류", e);
+        }
+    }
+
+    private static Integer parseCrsName(String name) {
+        if (name == null || name.isBlank()) return null;
+        String upper = name.trim().toUpperCase();
+        if (upper.endsWith("CRS84")) return WGS84;
+
+        int colon = upper.lastIndexOf(':');
+        if (!upper.contains("EPSG") || colon < 0) {
+            throw new IllegalArgumentException("지원하지 않는 crs: " + name);
+        }
+        try {
+            return Integer.valueOf(upper.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("지원하지 않는 crs: " + name, e);
+        }
+    }
+
+    public record Normalized(int srid, String geoJsonWgs84) {}
+
+    // GeoJSON 문자열 (Feature / FeatureCollection) 을 판별 + 변환
+    public static Normalized normalize(String name, String geoJson) {
+        List<GeoJsonParser.Feature> features = GeoJsonParser.parseFeatures(geoJson);
+        if (features.isEmpty()) throw new IllegalArgumentException("feature 가 없습니다: " + name);
+
+        Envelope envelope = new Envelope();
+        features.forEach(f -> envelope.expandToInclude(f.geometry().getEnvelopeInternal()));
+        int srid = detectSrid(declaredSrid(geoJson), name, envelope);
+
+        List<GeoJsonParser.Feature> converted = new ArrayList<>(features.size());
+        for (GeoJsonParser.Feature feature : features) {
+            converted.add(new GeoJsonParser.Feature(feature.properties(), toWgs84(feature.geometry(), srid)));
+        }
+        return new Normalized(srid, GeoJsonWriter.toGeoJson(converted, WGS84_QUANTUM));
+    }
+}
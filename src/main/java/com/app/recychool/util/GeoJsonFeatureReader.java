@@ -0,0 +1,70 @@
+package com.app.recychool.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * GeoJSON 파일을 통째로 읽지 않고 JsonParser 로 토큰을 따라가며 feature 를 하나씩 넘긴다.
+ * FeatureCollection 이면 features 배열의 원소마다, Feature / Geometry 루트면 루트 하나를 넘긴다.
+ * 한 번에 메모리에 올라오는 것은 feature 하나와 features 를 뺀 루트 멤버들뿐이다.
+ * 멤버 순서는 정해져 있지 않으므로 루트 멤버는 type 보다 앞에 있어도 모아 두었다가 함께 넘긴다.
+ * 루트 crs 는 crs 가 없는 feature 에 붙여서 넘긴다 (features 보다 뒤에 나오는 crs 는 이미 넘긴 feature 에 붙일 수 없다).
+ */
+public final class GeoJsonFeatureReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @FunctionalInterface
+    public interface FeatureHandler {
+        void handle(int index, String featureJson) throws IOException;
+    }
+
+    private GeoJsonFeatureReader() {
+    }
+
+    // 넘긴 feature 수 반환
+    public static int read(InputStream in, FeatureHandler handler) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("GeoJSON 루트가 객체가 아닙니다.");
+            }
+
+            // features 를 뺀 루트 멤버 (type, crs, 그리고 단일 루트면 geometry / properties 등)
+            ObjectNode root = MAPPER.createObjectNode();
+            boolean collection = false;
+            int count = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("features".equals(field) && value == JsonToken.START_ARRAY) {
+                    collection = true;
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        ObjectNode feature = parser.readValueAsTree();
+                        if (root.hasNonNull("crs") && !feature.has("crs")) {
+                            feature.set("crs", root.get("crs"));
+                        }
+                        handler.handle(count++, MAPPER.writeValueAsString(feature));
+                    }
+                } else {
+                    JsonNode member = parser.readValueAsTree();
+                    root.set(field, member);
+                }
+            }
+
+            if (collection || "FeatureCollection".equals(root.path("type").asText())) {
+                return count;
+            }
+            // FeatureCollection 이 아니면 루트 전체가 feature 하나
+            handler.handle(0, MAPPER.writeValueAsString(root));
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.recychool.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// GeoJSON (FeatureCollection / Feature / Polygon / MultiPolygon) → JTS Geometry
+public final class GeoJsonParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    public record Feature(Map<String, String> properties, Geometry geometry) {}
+
+    private GeoJsonParser() {
+    }
+
+    public static List<Feature> parseFeatures(String geoJson) {
+        try {
+            return parseFeatures(OBJECT_MAPPER.readTree(geoJson));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("GeoJSON 파싱 실패", e);
+        }
+    }
+
+    public static List<Feature> parseFeatures(JsonNode root) {
+        List<Feature> features = new ArrayList<>();
+        String type = root.path("type").asText();
+
+        if ("FeatureCollection".equals(type)) {
+            for (JsonNode feature : root.path("features")) {
+                features.add(parseFeature(feature));
+            }
+        } else if ("Feature".equals(type)) {
+            features.add(parseFeature(root));
+        } else {
+            features.add(new Feature(new LinkedHashMap<>(), parseGeometry(root)));
+        }
+        return features;
+    }
+
+    public static Feature parseFeature(JsonNode feature) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        feature.path("properties").fields()
+                .forEachRemaining(e -> properties.put(e.getKey(), e.getValue().asText()));
+        return new Feature(properties, parseGeometry(feature.path("geometry")));
+    }
+
+    public static Geometry parseGeometry(JsonNode geometry) {
+        String type = geometry.path("type").asText();
+        JsonNode coordinates = geometry.path("coordinates");
+
+        return switch (type) {
+            case "Polygon" -> polygon(coordinates);
+            case "MultiPolygon" -> {
+                Polygon[] polygons = new Polygon[coordinates.size()];
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = polygon(coordinates.get(i));
+                }
+                yield GEOMETRY_FACTORY.createMultiPolygon(polygons);
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 geometry: " + type);
+        };
+    }
+
+    // [외곽 링, 구멍 링...]
+    private static Polygon polygon(JsonNode rings) {
+        LinearRing shell = ring(rings.get(0));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = ring(rings.get(i));
+        }
+        return GEOMETRY_FACTORY.createPolygon(shell, holes);
+    }
+
+    private static LinearRing ring(JsonNode points) {
+        Coordinate[] coordinates = new Coordinate[points.size()];
+        for (int i = 0; i < coordinates.length; i++) {
+            JsonNode point = points.get(i);
+            coordinates[i] = new Coordinate(point.get(0).asDouble(), point.get(1).asDouble());
+        }
+        return GEOMETRY_FACTORY.createLinearRing(coordinates);
+    }
+}
@@ -0,0 +1,123 @@
+package com.app.recychool.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+// JTS Polygon / MultiPolygon → GeoJSON. quantum 단위로 좌표를 반올림한다 (1 이상이면 정수로 출력)
+public final class GeoJsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private GeoJsonWriter() {
+    }
+
+    // feature 가 하나면 Feature, 여러 개면 FeatureCollection
+    public static String toGeoJson(List<GeoJsonParser.Feature> features, double quantum) {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            if (features.size() == 1) {
+                writeFeature(generator, features.get(0).properties(), features.get(0).geometry(), quantum);
+            } else {
+                generator.writeStartObject();
+                generator.writeStringField("type", "FeatureCollection");
+                generator.writeArrayFieldStart("features");
+                for (GeoJsonParser.Feature feature : features) {
+                    writeFeature(generator, feature.properties(), feature.geometry(), quantum);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    public static void writeFeature(JsonGenerator generator, Map<String, String> properties,
+                                    Geometry geometry, double quantum) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Feature");
+        generator.writeObjectFieldStart("properties");
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            generator.writeStringField(property.getKey(), property.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeFieldName("geometry");
+        writeGeometry(generator, geometry, quantum);
+        generator.writeEndObject();
+    }
+
+    public static void writeGeometry(JsonGenerator generator, Geometry geometry, double quantum) throws IOException {
+        generator.writeStartObject();
+        if (geometry instanceof MultiPolygon multiPolygon) {
+            generator.writeStringField("type", "MultiPolygon");
+            generator.writeArrayFieldStart("coordinates");
+            for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                writePolygon(generator, (Polygon) multiPolygon.getGeometryN(i), quantum);
+            }
+            generator.writeEndArray();
+        } else if (geometry instanceof Polygon polygon) {
+            generator.writeStringField("type", "Polygon");
+            generator.writeFieldName("coordinates");
+            writePolygon(generator, polygon, quantum);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 geometry: " + geometry.getGeometryType());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writePolygon(JsonGenerator generator, Polygon polygon, double quantum) throws IOException {
+        generator.writeStartArray();
+        writeRing(generator, polygon.getExteriorRing(), quantum);
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            writeRing(generator, polygon.getInteriorRingN(i), quantum);
+        }
+        generator.writeEndArray();
+    }
+
+    // 반올림 후 연속으로 겹치는 점은 건너뛴다 (닫는 점은 유지)
+    private static void writeRing(JsonGenerator generator, LineString ring, double quantum) throws IOException {
+        Coordinate[] coordinates = ring.getCoordinates();
+        generator.writeStartArray();
+
+        double prevX = Double.NaN;
+        double prevY = Double.NaN;
+        for (int i = 0; i < coordinates.length; i++) {
+            double x = quantize(coordinates[i].x, quantum);
+            double y = quantize(coordinates[i].y, quantum);
+            boolean last = i == coordinates.length - 1;
+            if (!last && x == prevX && y == prevY) continue;
+
+            generator.writeStartArray();
+            writeNumber(generator, x, quantum);
+            writeNumber(generator, y, quantum);
+            generator.writeEndArray();
+            prevX = x;
+            prevY = y;
+        }
+        generator.writeEndArray();
+    }
+
+    private static double quantize(double value, double quantum) {
+        if (quantum >= 1) return Math.round(value / quantum) * quantum;
+
+        double scale = Math.round(1 / quantum);
+        return Math.round(value * scale) / scale;
+    }
+
+    private static void writeNumber(JsonGenerator generator, double value, double quantum) throws IOException {
+        if (quantum >= 1) generator.writeNumber((long) value);
+        else generator.writeNumber(value);
+    }
+}
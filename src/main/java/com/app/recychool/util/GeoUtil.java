@@ -0,0 +1,22 @@
+package com.app.recychool.util;
+
+// WGS84 위경도 거리 계산
+public final class GeoUtil {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    // 위도 1도의 길이 (m)
+    public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoUtil() {
+    }
+
+    // 두 좌표 사이의 대원 거리 (m)
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.recychool.util;
+
+/**
+ * EPSG:5179 (Korea 2000 / Unified CS) 횡메르카토르 투영.
+ * GRS80 타원체, 원점 (38N, 127.5E), 축척 0.9996, 가산값 (1,000,000, 2,000,000).
+ * 행정구역 경계 파일이 이 좌표계라서 적재 시 WGS84 로 변환할 때 쓴다.
+ * (WGS84 와 GRS80 의 차이는 mm 수준이라 무시)
+ */
+public final class KoreaTmProjection {
+
+    private static final double A = 6_378_137.0;
+    private static final double F = 1 / 298.257222101;
+    private static final double E2 = 2 * F - F * F;
+    private static final double EP2 = E2 / (1 - E2);
+
+    private static final double LAT0 = Math.toRadians(38.0);
+    private static final double LON0 = Math.toRadians(127.5);
+    private static final double K0 = 0.9996;
+    private static final double FALSE_EASTING = 1_000_000.0;
+    private static final double FALSE_NORTHING = 2_000_000.0;
+
+    private static final double M0 = meridianArc(LAT0);
+
+    private KoreaTmProjection() {
+    }
+
+    // 위경도 (도) → {x(동), y(북)} (m)
+    public static double[] forward(double lat, double lon) {
+        double phi = Math.toRadians(lat);
+        double sin = Math.sin(phi);
+        double cos = Math.cos(phi);
+        double tan = Math.tan(phi);
+
+        double n = A / Math.sqrt(1 - E2 * sin * sin);
+        double t = tan * tan;
+        double c = EP2 * cos * cos;
+        double a = (Math.toRadians(lon) - LON0) * cos;
+
+        double x = FALSE_EASTING + K0 * n * (a
+                + (1 - t + c) * Math.pow(a, 3) / 6
+                + (5 - 18 * t + t * t + 72 * c - 58 * EP2) * Math.pow(a, 5) / 120);
+        double y = FALSE_NORTHING + K0 * (meridianArc(phi) - M0 + n * tan * (a * a / 2
+                + (5 - t + 9 * c + 4 * c * c) * Math.pow(a, 4) / 24
+                + (61 - 58 * t + t * t + 600 * c - 330 * EP2) * Math.pow(a, 6) / 720));
+        return new double[]{x, y};
+    }
+
+    // {x(동), y(북)} (m) → {위도, 경도} (도)
+    public static double[] inverse(double x, double y) {
+        double e1 = (1 - Math.sqrt(1 - E2)) / (1 + Math.sqrt(1 - E2));
+        double m = M0 + (y - FALSE_NORTHING) / K0;
+        double mu = m / (A * (1 - E2 / 4 - 3 * E2 * E2 / 64 - 5 * E2 * E2 * E2 / 256));
+
+        double phi1 = mu
+                + (3 * e1 / 2 - 27 * Math.pow(e1, 3) / 32) * Math.sin(2 * mu)
+                + (21 * e1 * e1 / 16 - 55 * Math.pow(e1, 4) / 32) * Math.sin(4 * mu)
+                + (151 * Math.pow(e1, 3) / 96) * Math.sin(6 * mu)
+                + (1097 * Math.pow(e1, 4) / 512) * Math.sin(8 * mu);
+
+        double sin1 = Math.sin(phi1);
+        double cos1 = Math.cos(phi1);
+        double tan1 = Math.tan(phi1);
+        double c1 = EP2 * cos1 * cos1;
+        double t1 = tan1 * tan1;
+        double n1 = A / Math.sqrt(1 - E2 * sin1 * sin1);
+        double r1 = A * (1 - E2) / Math.pow(1 - E2 * sin1 * sin1, 1.5);
+        double d = (x - FALSE_EASTING) / (n1 * K0);
+
+        double phi = phi1 - (n1 * tan1 / r1) * (d * d / 2
+                - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * EP2) * Math.pow(d, 4) / 24
+                + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * EP2 - 3 * c1 * c1) * Math.pow(d, 6) / 720);
+        double lambda = LON0 + (d
+                - (1 + 2 * t1 + c1) * Math.pow(d, 3) / 6
+                + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * EP2 + 24 * t1 * t1) * Math.pow(d, 5) / 120) / cos1;
+
+        return new double[]{Math.toDegrees(phi), Math.toDegrees(lambda)};
+    }
+
+    // 좌표 범위로 본 EPSG:5179 여부 (한반도 주변 x 70만~140만, y 130만~230만 m)
+    public static boolean isInRange(double x, double y) {
+        return x >= 700_000 && x <= 1_400_000 && y >= 1_300_000 && y <= 2_300_000;
+    }
+
+    // 적도에서 위도 phi 까지의 자오선 호 길이
+    private static double meridianArc(double phi) {
+        double e4 = E2 * E2;
+        double e6 = e4 * E2;
+        return A * ((1 - E2 / 4 - 3 * e4 / 64 - 5 * e6 / 256) * phi
+                - (3 * E2 / 8 + 3 * e4 / 32 + 45 * e6 / 1024) * Math.sin(2 * phi)
+                + (15 * e4 / 256 + 45 * e6 / 1024) * Math.sin(4 * phi)
+                - (35 * e6 / 3072) * Math.sin(6 * phi));
+    }
+}
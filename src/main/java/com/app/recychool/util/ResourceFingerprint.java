@@ -0,0 +1,77 @@
+package com.app.recychool.util;
+
+import com.app.recychool.domain.entity.SchoolMetadata;
+import com.app.recychool.repository.SchoolMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+/**
+ * 기동 적재 대상 리소스의 내용 해시.
+ * 마지막으로 적재에 성공한 해시를 SCHOOL_METADATA("resource-hash:{key}")에 두고,
+ * 같으면 적재 서비스(전체 이름 조회 등)를 부르지 않고 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceFingerprint {
+
+    private static final String KEY_PREFIX = "resource-hash:";
+
+    private final SchoolMetadataRepository schoolMetadataRepo;
+
+    // 파일 이름순으로 (이름, 내용) 을 이어서 SHA-256
+    public String of(Resource... resources) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[64 * 1024];
+
+        Resource[] sorted = resources.clone();
+        Arrays.sort(sorted, Comparator.comparing(r -> String.valueOf(r.getFilename())));
+        for (Resource resource : sorted) {
+            digest.update(String.valueOf(resource.getFilename()).getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = resource.getInputStream()) {
+                int n;
+                while ((n = is.read(buffer)) > 0) {
+                    digest.update(buffer, 0, n);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public boolean isUnchanged(String key, String hash) {
+        return schoolMetadataRepo.findById(KEY_PREFIX + key)
+                .map(meta -> hash.equals(meta.getMetaValue()))
+                .orElse(false);
+    }
+
+    public boolean isKnown(String key) {
+        return schoolMetadataRepo.existsById(KEY_PREFIX + key);
+    }
+
+    // 적재 성공 후 호출
+    public void remember(String key, String hash) {
+        schoolMetadataRepo.save(SchoolMetadata.builder()
+                .metaKey(KEY_PREFIX + key)
+                .metaValue(hash)
+                .createAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
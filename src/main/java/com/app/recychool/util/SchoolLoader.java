@@ -2,16 +2,19 @@ package com.app.recychool.util;
 
 import com.app.recychool.domain.entity.SchoolMetadata;
 import com.app.recychool.repository.SchoolMetadataRepository;
+import com.app.recychool.service.BulkLoadJob;
+import com.app.recychool.service.BulkLoadJobService;
 import com.app.recychool.service.SchoolBulkLoadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 
 @Component
@@ -22,41 +25,77 @@ public class SchoolLoader {
     private final ResourceLoader resourceLoader;
     private final SchoolMetadataRepository schoolMetadataRepo;
     private final SchoolBulkLoadService schoolBulkLoadService;
+    private final BulkLoadJobService bulkLoadJobService;
+    private final ResourceFingerprint resourceFingerprint;
+
+    // 모드별로 따로 둔다: insert 로 이미 읽은 파일이라도 sync 로 바꾸면 바뀐 좌표 / 주차대수를 한 번은 반영해야 한다
+    private static final String HASH_KEY = "school-csv";
+    private static final String SYNC_HASH_KEY = "school-csv-sync";
 
     @Value("${app.school-data-path:classpath:school/폐교데이터_좌표삽입.csv}")
     private String dataPath;
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void onApplicationReady() {
-        // 마커 체크
-        if (schoolMetadataRepo.existsById("schools_loaded")) {
-            System.out.println("학교 데이터 이미 적재됨. 스킵합니다.");
+    // insert: 새 이름만 추가 / sync: 행 해시 비교로 바뀐 학교도 반영 (파일이 바뀐 경우에만 실행)
+    @Value("${app.school-import.mode:insert}")
+    private String importMode;
+
+    // StartupBootstrap 이 백그라운드 스레드에서 호출
+    // 실패는 던져서 StartupBootstrap 이 SCHOOLS 를 FAILED 로 표시하게 한다 (삼키면 READY 가 된다)
+    public void load() throws IOException {
+        boolean sync = "sync".equalsIgnoreCase(importMode);
+
+        Resource resource = resourceLoader.getResource(dataPath);
+        if (!resource.exists()) {
+            throw new FileNotFoundException("학교 데이터 파일을 찾을 수 없습니다: " + dataPath);
+        }
+
+        String hash = resourceFingerprint.of(resource);
+        String hashKey = sync ? SYNC_HASH_KEY : HASH_KEY;
+
+        // 이 모드로 마지막 적재한 이후 파일 내용이 같으면 DB 조회 없이 스킵
+        if (resourceFingerprint.isUnchanged(hashKey, hash)) {
+            log.info("학교 데이터 변경 없음. 스킵합니다.");
+            return;
+        }
+        // 해시를 남기기 전에 적재된 DB 는 마커만 있으므로 현재 해시를 기준으로 삼는다
+        if (!sync && !resourceFingerprint.isKnown(HASH_KEY) && schoolMetadataRepo.existsById("schools_loaded")) {
+            resourceFingerprint.remember(HASH_KEY, hash);
+            log.info("학교 데이터 이미 적재됨. 스킵합니다.");
             return;
         }
 
-        try {
-            Resource resource = resourceLoader.getResource(dataPath);
-            if (!resource.exists()) {
-                System.err.println("데이터 파일을 찾을 수 없습니다: " + dataPath);
-                return;
+        // 중간에 죽었으면 체크포인트 이후부터 이어서 적재
+        BulkLoadJob job = bulkLoadJobService.begin(sync ? "school-csv-sync" : "school-csv", dataPath, hash, contentLength(resource));
+        try (InputStream is = resource.getInputStream()) {
+            if (sync) {
+                schoolBulkLoadService.syncFromInputStream(is, 100, job);
+            } else {
+                schoolBulkLoadService.loadFromInputStream(is, 100, job);
             }
+            bulkLoadJobService.complete(job);
 
-            var result = schoolBulkLoadService.loadFromInputStream(resource.getInputStream(), 100);
-            System.out.println("학교 적재 결과 inserted=" + result.inserted() + ", skipped=" + result.skipped() + ", failed=" + result.failed());
-
-            // 성공 시 마커 저장
+            // 성공 시 마커 / 해시 저장
             SchoolMetadata meta = SchoolMetadata.builder()
                     .metaKey("schools_loaded")
                     .metaValue("true")
                     .createAt(LocalDateTime.now())
                     .build();
-            meta.save(meta);
-            System.out.println("마커 저장 완료");
-        } catch (Exception e) {
-            System.err.println("초기 학교 적재 실패: " + e.getMessage());
-            e.printStackTrace();
+            schoolMetadataRepo.save(meta);
+            // sync 는 insert 가 하는 일(새 이름 추가)을 포함하므로 두 키 모두 최신으로 둔다
+            resourceFingerprint.remember(hashKey, hash);
+            if (sync) resourceFingerprint.remember(HASH_KEY, hash);
+        } catch (IOException | RuntimeException e) {
+            bulkLoadJobService.fail(job, e);
+            throw e;
         }
     }
 
-}
+    private static long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
 
+}
@@ -0,0 +1,112 @@
+package com.app.recychool.util;
+
+import com.app.recychool.domain.enums.StartupDataset;
+import com.app.recychool.domain.event.PolygonsLoadedEvent;
+import com.app.recychool.domain.event.SchoolsLoadedEvent;
+import com.app.recychool.service.DataReadinessService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 데이터 적재를 백그라운드로 돌린다. 애플리케이션은 바로 요청을 받고,
+ * 데이터가 필요한 API 는 준비될 때까지 503 (DataReadinessInterceptor).
+ * 폴리곤 / 학교 두 갈래가 동시에 돌고, 각 갈래는 적재 → *LoadedEvent(인덱스 적재) → READY 순서.
+ * 학교 시도 태깅은 둘 중 늦게 끝나는 쪽에서 채워진다 (RegionIndexService.reload / SchoolsChangedEvent).
+ *
+ * 적재가 실패해도 이전에 적재된 행은 DB 에 남아 있으므로, 그 행으로 인덱스만 만들어 DEGRADED(요청은 받음)로 두고
+ * 적재 자체는 backoff 를 두고 다시 시도한다. 인덱스조차 못 만들면 FAILED (재시도는 계속).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupBootstrap {
+
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long RETRY_BASE_SECONDS = 30;     // 30s, 1m, 2m, 4m, 8m
+    private static final long RETRY_MAX_SECONDS = 10 * 60;
+
+    private final GeoJsonBulkLoader geoJsonBulkLoader;
+    private final SchoolLoader schoolLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataReadinessService dataReadinessService;
+
+    // 대부분 DB/파일 I/O 대기. JDK 21 로 올리면 Executors.newVirtualThreadPerTaskExecutor() 로 바꾼다
+    // (빈으로 등록하면 Spring 기본 applicationTaskExecutor 가 빠지므로 여기서만 쓴다)
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2, new ThreadFactory() {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bootstrap-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.submit(() -> run(StartupDataset.POLYGONS, geoJsonBulkLoader::load,
+                () -> eventPublisher.publishEvent(new PolygonsLoadedEvent()), 1));
+        executor.submit(() -> run(StartupDataset.SCHOOLS, schoolLoader::load,
+                () -> eventPublisher.publishEvent(new SchoolsLoadedEvent()), 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // load: 파일 → DB 적재, index: DB 행으로 메모리 인덱스 적재 (*LoadedEvent)
+    private void run(StartupDataset dataset, Step load, Step index, int attempt) {
+        long started = System.currentTimeMillis();
+        try {
+            load.run();
+            index.run();
+            dataReadinessService.markReady(dataset);
+            log.info("기동 적재 {} 완료: {}ms (시도 {})", dataset, System.currentTimeMillis() - started, attempt);
+            return;
+        } catch (Throwable e) {
+            // submit() 으로 넘긴 작업의 예외는 Future 에만 남으므로 Error 까지 여기서 받는다
+            if (!dataReadinessService.isReady(dataset)) {
+                serveExisting(dataset, index, e);
+            } else {
+                log.warn("기동 적재 {} 재시도 실패 (기존 데이터로 계속 서비스): {}", dataset, e.toString());
+            }
+        }
+
+        if (attempt >= MAX_ATTEMPTS) {
+            log.error("기동 적재 {} 재시도 중단: {}회 실패", dataset, attempt);
+            return;
+        }
+        long delay = Math.min(RETRY_MAX_SECONDS, RETRY_BASE_SECONDS << (attempt - 1));
+        log.info("기동 적재 {} {}초 뒤 재시도 ({}/{})", dataset, delay, attempt + 1, MAX_ATTEMPTS);
+        executor.schedule(() -> run(dataset, load, index, attempt + 1), delay, TimeUnit.SECONDS);
+    }
+
+    // 적재 실패 시 DB 에 이미 있는 행으로 인덱스를 만들어 DEGRADED 로 서비스
+    private void serveExisting(StartupDataset dataset, Step index, Throwable loadFailure) {
+        try {
+            index.run();
+            dataReadinessService.markDegraded(dataset, loadFailure);
+        } catch (Throwable e) {
+            e.addSuppressed(loadFailure);
+            dataReadinessService.markFailed(dataset, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,11 @@
+-- 엔티티 @SequenceGenerator(allocationSize = 50) + pooled-lo 에 맞춰 시퀀스 증가폭 변경
+-- 기존 id 는 모두 현재 값 이하라서 다음 NEXTVAL(현재 값 + 50)부터 새 블록으로 쓰면 겹치지 않는다.
+ALTER SEQUENCE SEQ_SCHOOL INCREMENT BY 50;
+ALTER SEQUENCE SEQ_RESERVE INCREMENT BY 50;
+ALTER SEQUENCE SEQ_RESERVE_OUTBOX INCREMENT BY 50;
+ALTER SEQUENCE SEQ_PAYMENT INCREMENT BY 50;
+ALTER SEQUENCE SEQ_PAYMENT_CANCEL INCREMENT BY 50;
+ALTER SEQUENCE SEQ_USER INCREMENT BY 50;
+ALTER SEQUENCE SEQ_USER_SOCIAL INCREMENT BY 50;
+ALTER SEQUENCE SEQ_MOVIE INCREMENT BY 50;
+ALTER SEQUENCE SEQ_MOVIE_RESERVATION INCREMENT BY 50;
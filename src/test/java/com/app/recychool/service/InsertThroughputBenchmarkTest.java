@@ -0,0 +1,194 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.entity.User;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.domain.event.SchoolsChangedEvent;
+import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// pooled-lo 시퀀스 + JDBC 배치 적용 전후 insert 처리량 비교용 (수치는 로그로 확인)
+// reserve saveAll / 학교 CSV 적재 경로를 현재 설정과 이전 방식(Baseline: 행마다 NEXTVAL, JPA 배치 없음) 컨텍스트에서 각각 돌린다
+@SpringBootTest
+@Slf4j
+class InsertThroughputBenchmarkTest {
+
+    private static final int RESERVES = 2000;
+    private static final int SCHOOLS = 5000;
+
+    private static final String CURRENT = "pooled-lo + batch";
+    private static final String BASELINE = "NEXTVAL per row, no batch";
+
+    // 설정 이름 → reserve insert 소요 ms / 학교 적재 rows/s
+    private static final Map<String, Long> reserveInsertMillis = new ConcurrentHashMap<>();
+    private static final Map<String, Double> schoolLoadRowsPerSecond = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private SchoolRepository schoolRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SchoolBulkLoadService schoolBulkLoadService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void reserveInsertThroughput() {
+        reserveInsertMillis.put(CURRENT,
+                insertReserves(reserveRepository, schoolRepository, userRepository, transactionManager));
+    }
+
+    @Test
+    void schoolBulkLoadThroughput() {
+        schoolLoadRowsPerSecond.put(CURRENT, loadSchools(schoolBulkLoadService, jdbcTemplate, eventPublisher));
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"app.jpa.id-optimizer=none", "app.jpa.batch-size=1"})
+    class Baseline {
+
+        @Autowired
+        private ReserveRepository reserveRepository;
+        @Autowired
+        private SchoolRepository schoolRepository;
+        @Autowired
+        private UserRepository userRepository;
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+        @Autowired
+        private SchoolBulkLoadService schoolBulkLoadService;
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+        @Autowired
+        private ApplicationEventPublisher eventPublisher;
+
+        @Test
+        void reserveInsertThroughput() {
+            reserveInsertMillis.put(BASELINE,
+                    insertReserves(reserveRepository, schoolRepository, userRepository, transactionManager));
+        }
+
+        @Test
+        void schoolBulkLoadThroughput() {
+            schoolLoadRowsPerSecond.put(BASELINE, loadSchools(schoolBulkLoadService, jdbcTemplate, eventPublisher));
+        }
+    }
+
+    @AfterAll
+    static void report() {
+        reserveInsertMillis.forEach((name, millis) ->
+                log.info("reserve insert [{}]: {}건 {}ms, {} inserts/s", name, RESERVES, millis, RESERVES * 1000L / millis));
+
+        Long before = reserveInsertMillis.get(BASELINE);
+        Long after = reserveInsertMillis.get(CURRENT);
+        if (before != null && after != null) {
+            log.info("reserve insert 개선: {}배", String.format("%.1f", (double) before / after));
+        }
+
+        schoolLoadRowsPerSecond.forEach((name, rowsPerSecond) ->
+                log.info("school bulk load [{}]: {}건 {} rows/s", name, SCHOOLS, String.format("%.1f", rowsPerSecond)));
+        Double loadBefore = schoolLoadRowsPerSecond.get(BASELINE);
+        Double loadAfter = schoolLoadRowsPerSecond.get(CURRENT);
+        if (loadBefore != null && loadAfter != null && loadBefore > 0) {
+            log.info("school bulk load 개선: {}배", String.format("%.1f", loadAfter / loadBefore));
+        }
+    }
+
+    // saveAll 한 트랜잭션의 소요 ms (저장한 행은 지운다)
+    private static long insertReserves(ReserveRepository reserveRepository, SchoolRepository schoolRepository,
+                                       UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        User user = userRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        School school = schoolRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+        LocalDate date = LocalDate.now().plusYears(20);
+
+        List<Reserve> reserves = new ArrayList<>(RESERVES);
+        for (int i = 0; i < RESERVES; i++) {
+            reserves.add(Reserve.builder()
+                    .user(user)
+                    .school(school)
+                    .reserveType(ReserveType.PARKING)
+                    .reserveStatus(ReserveStatus.CANCELED)
+                    .startDate(date)
+                    .endDate(date)
+                    .reservePrice(0)
+                    .reserveDeposit(0)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        long started = System.nanoTime();
+        List<Reserve> saved = new TransactionTemplate(transactionManager)
+                .execute(status -> reserveRepository.saveAll(reserves));
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+
+        try {
+            assertEquals(RESERVES, saved.size());
+            return elapsedMillis;
+        } finally {
+            reserveRepository.deleteAllInBatch(saved);
+        }
+    }
+
+    // CSV 적재 rows/s (적재한 행은 지우고, 인덱스에서도 빠지도록 SchoolsChangedEvent 발행)
+    private static double loadSchools(SchoolBulkLoadService schoolBulkLoadService, JdbcTemplate jdbcTemplate,
+                                      ApplicationEventPublisher eventPublisher) {
+        String prefix = "BENCH-" + UUID.randomUUID() + "-";
+
+        StringBuilder csv = new StringBuilder("시군구명,폐교명,대지,전화번호,주소,X,Y,연면적,이미지경로,이미지명,주차대수\n");
+        for (int i = 0; i < SCHOOLS; i++) {
+            csv.append("서울,").append(prefix).append(i)
+                    .append(",1000,02-000-0000,서울특별시,126.97,37.56,500,,,10\n");
+        }
+
+        try {
+            SchoolBulkLoadService.LoadResult result = schoolBulkLoadService.loadFromInputStream(
+                    new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), 500);
+
+            assertEquals(SCHOOLS, result.inserted());
+            log.info("school bulk load: {}건 {}ms, {} rows/s",
+                    result.inserted(), result.elapsedMillis(), String.format("%.1f", result.rowsPerSecond()));
+            return result.rowsPerSecond();
+        } finally {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT ID FROM TBL_SCHOOL WHERE SCHOOL_NAME LIKE ?", Long.class, prefix + "%");
+            jdbcTemplate.update("DELETE FROM TBL_SCHOOL WHERE SCHOOL_NAME LIKE ?", prefix + "%");
+            // 적재 경로와 같은 크기로 나눠 인덱스 갱신 (빈 목록은 전체 변경으로 해석되므로 보내지 않는다)
+            for (int from = 0; from < ids.size(); from += 500) {
+                eventPublisher.publishEvent(new SchoolsChangedEvent(ids.subList(from, Math.min(ids.size(), from + 500))));
+            }
+        }
+    }
+}
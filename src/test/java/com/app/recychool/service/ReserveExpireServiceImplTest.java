@@ -0,0 +1,119 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.entity.User;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// PENDING 시간 초과 취소는 "PENDING 이 된 시각" 기준: 오래 기다리다 승격된 예약은 바로 취소되면 안 된다
+@SpringBootTest
+@Slf4j
+class ReserveExpireServiceImplTest {
+
+    @Autowired
+    private ReserveExpireService reserveExpireService;
+    @Autowired
+    private WaitlistPromotionService waitlistPromotionService;
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private SchoolRepository schoolRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ParkingCapacityLedger parkingCapacityLedger;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private School school;
+    private final List<User> users = new ArrayList<>();
+    private final List<Long> reserveIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "EXPIRE-TEST-" + UUID.randomUUID() + "-";
+        school = schoolRepository.save(School.builder()
+                .schoolCity("서울")
+                .schoolName(prefix + "school")
+                .schoolLand(100.0) // 주차 수용 1대
+                .build());
+        for (int i = 0; i < 2; i++) {
+            users.add(userRepository.save(User.builder()
+                    .userName(prefix + i)
+                    .userEmail(prefix + i + "@test.local")
+                    .userProvider("local")
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.batchUpdate("DELETE FROM TBL_RESERVE_OUTBOX WHERE RESERVE_ID = ?",
+                reserveIds.stream().map(id -> new Object[]{id}).toList());
+        reserveRepository.deleteAllByIdInBatch(reserveIds);
+        userRepository.deleteAllInBatch(users);
+        schoolRepository.deleteAllInBatch(List.of(school));
+        parkingCapacityLedger.reconcile();
+    }
+
+    @Test
+    void promotedWaiterIsNotCanceledByStalePendingSweep() {
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(2);
+        LocalDate date = LocalDate.now().plusYears(10);
+
+        // 2시간 전에 대기 등록한 예약 → 지금 승격
+        Reserve waiter = save(users.get(0), ReserveStatus.WAITING, 1, date, longAgo, null);
+        // 2시간 전부터 결제하지 않은 PENDING (대조군: 취소돼야 한다)
+        Reserve abandoned = save(users.get(1), ReserveStatus.PENDING, null, date.plusMonths(2), longAgo, longAgo);
+
+        waitlistPromotionService.enqueue(school.getId());
+        waitlistPromotionService.promotePending();
+
+        Reserve promoted = reserveRepository.findById(waiter.getId()).orElseThrow();
+        assertEquals(ReserveStatus.PENDING, promoted.getReserveStatus());
+        assertTrue(promoted.getPendingSince().isAfter(longAgo));
+
+        reserveExpireService.expireStalePending();
+
+        assertEquals(ReserveStatus.PENDING, reserveRepository.findById(waiter.getId()).orElseThrow().getReserveStatus());
+        assertEquals(ReserveStatus.CANCELED, reserveRepository.findById(abandoned.getId()).orElseThrow().getReserveStatus());
+    }
+
+    private Reserve save(User user, ReserveStatus status, Integer waitingOrder, LocalDate date,
+                         LocalDateTime createdAt, LocalDateTime pendingSince) {
+        Reserve saved = reserveRepository.save(Reserve.builder()
+                .user(user)
+                .school(school)
+                .reserveType(ReserveType.PARKING)
+                .reserveStatus(status)
+                .waitingOrder(waitingOrder)
+                .startDate(date)
+                .endDate(date.plusMonths(1))
+                .reservePrice(30_000)
+                .reserveDeposit(0)
+                .createdAt(createdAt)
+                .pendingSince(pendingSince)
+                .build());
+        reserveIds.add(saved.getId());
+        return saved;
+    }
+}
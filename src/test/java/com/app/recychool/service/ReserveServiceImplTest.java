@@ -0,0 +1,180 @@
+package com.app.recychool.service;
+
+import com.app.recychool.domain.dto.reserve.ReserveCreateRequestDTO;
+import com.app.recychool.domain.dto.reserve.ReserveCreateResponseDTO;
+import com.app.recychool.domain.entity.Reserve;
+import com.app.recychool.domain.entity.School;
+import com.app.recychool.domain.entity.User;
+import com.app.recychool.domain.enums.ReserveStatus;
+import com.app.recychool.domain.enums.ReserveType;
+import com.app.recychool.exception.ReserveException;
+import com.app.recychool.repository.ReserveRepository;
+import com.app.recychool.repository.SchoolRepository;
+import com.app.recychool.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 공용 DB 데이터에 기대지 않도록 학교 / 사용자를 직접 만들고, 끝나면 예약 / outbox 행까지 지운다
+@SpringBootTest
+@Slf4j
+class ReserveServiceImplTest {
+
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 64;
+    private static final int USERS = 200;
+    private static final double SCHOOL_LAND = 1000; // 주차 수용 10대
+
+    @Autowired
+    private ReserveService reserveService;
+    @Autowired
+    private ReserveRepository reserveRepository;
+    @Autowired
+    private SchoolRepository schoolRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ParkingCapacityLedger parkingCapacityLedger;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private School school;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "RESERVE-TEST-" + UUID.randomUUID() + "-";
+
+        school = schoolRepository.save(School.builder()
+                .schoolCity("서울")
+                .schoolName(prefix + "school")
+                .schoolLand(SCHOOL_LAND)
+                .build());
+
+        List<User> fixtures = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            fixtures.add(User.builder()
+                    .userName(prefix + i)
+                    .userEmail(prefix + i + "@test.local")
+                    .userProvider("local")
+                    .build());
+        }
+        users = userRepository.saveAll(fixtures);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // 이 테스트가 만든 예약의 outbox 이벤트 → 예약 → 사용자 / 학교 순서로 지운다
+        jdbcTemplate.batchUpdate("DELETE FROM TBL_RESERVE_OUTBOX WHERE RESERVE_ID = ?",
+                createdIds.stream().map(id -> new Object[]{id}).toList());
+        reserveRepository.deleteAllByIdInBatch(createdIds);
+        createdIds.clear();
+        userRepository.deleteAllInBatch(users);
+        schoolRepository.deleteAllInBatch(List.of(school));
+        parkingCapacityLedger.reconcile();
+    }
+
+    @Test
+    void concurrentPlaceReserveIsNotDoubleBooked() throws Exception {
+        LocalDate date = LocalDate.now().plusYears(10);
+
+        AtomicInteger rejected = fire(school.getId(), ReserveType.PLACE, date);
+
+        long active = reserveRepository.countBySchoolIdAndReserveTypeAndReserveStatusInAndStartDate(
+                school.getId(),
+                ReserveType.PLACE,
+                List.of(ReserveStatus.PENDING, ReserveStatus.COMPLETED),
+                date
+        );
+        log.info("place active={}, rejected={}", active, rejected.get());
+        // 락이 아무도 들이지 않아도 통과하지 않도록 정확히 1건
+        assertEquals(1, active);
+        assertEquals(1, createdIds.size());
+        assertEquals(REQUESTS - createdIds.size(), rejected.get());
+    }
+
+    @Test
+    void concurrentParkingReserveStaysWithinCapacity() throws Exception {
+        int capacity = (int) Math.floor(school.getSchoolLand() / 100);
+        LocalDate date = LocalDate.now().plusYears(10);
+
+        AtomicInteger rejected = fire(school.getId(), ReserveType.PARKING, date);
+
+        List<Reserve> created = reserveRepository.findAllById(createdIds);
+        List<Long> pendingUsers = created.stream()
+                .filter(r -> r.getReserveStatus() == ReserveStatus.PENDING)
+                .map(r -> r.getUser().getId())
+                .toList();
+        long pending = pendingUsers.size();
+        List<Integer> orders = created.stream()
+                .map(Reserve::getWaitingOrder)
+                .filter(Objects::nonNull)
+                .toList();
+
+        log.info("parking capacity={}, pending={}, waiting={}, rejected={}", capacity, pending, orders.size(), rejected.get());
+        // 수용량만큼 정확히 들어가고, 한 사용자는 주차 1건만
+        assertEquals(capacity, pending);
+        assertEquals(pending, pendingUsers.stream().distinct().count());
+        assertEquals(created.size(), pending + orders.size());
+        assertEquals(orders.size(), orders.stream().distinct().count());
+        assertEquals(REQUESTS - createdIds.size(), rejected.get());
+    }
+
+    private AtomicInteger fire(Long schoolId, ReserveType reserveType, LocalDate date) throws InterruptedException {
+        List<Long> userIds = users.stream().map(User::getId).toList();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Exception> errors = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            Long userId = userIds.get(i % userIds.size());
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    ReserveCreateResponseDTO response = reserveService.createReserve(
+                            userId,
+                            schoolId,
+                            reserveType,
+                            ReserveCreateRequestDTO.builder().startDate(date).build()
+                    );
+                    createdIds.add(response.getReserveId());
+                } catch (ReserveException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    // 정책 거절(ReserveException)이 아닌 실패는 테스트 실패로 본다
+                    log.warn("예약 실패", e);
+                    errors.add(e);
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.MINUTES));
+        assertTrue(errors.isEmpty(), () -> "예상하지 못한 예외 " + errors.size() + "건: " + errors.peek());
+        return rejected;
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.recychool.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTokenizerTest {
+
+    @Test
+    void splitsPlainRecords() throws IOException {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("1", "", "3")), readAll("a,b,c\n1,,3\n"));
+    }
+
+    @Test
+    void keepsCommaAndNewlineInsideQuotes() throws IOException {
+        List<List<String>> records = readAll("name,addr\n\"서울, 강남\",\"1층\n2층\"\n");
+
+        assertEquals(2, records.size());
+        assertEquals(List.of("서울, 강남", "1층\n2층"), records.get(1));
+    }
+
+    @Test
+    void doubledQuoteIsOneQuote() throws IOException {
+        assertEquals(List.of(List.of("say \"hi\"", "")), readAll("\"say \"\"hi\"\"\",\"\"\n"));
+    }
+
+    @Test
+    void acceptsCrlfAndLastLineWithoutNewline() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\r\nc,d"));
+    }
+
+    @Test
+    void stripsLeadingBom() throws IOException {
+        assertEquals(List.of(List.of("id", "name")), readAll("\uFEFFid,name\n"));
+    }
+
+    @Test
+    void unterminatedQuoteFails() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"b\nc"));
+        assertThrows(IOException.class, tokenizer::next);
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = tokenizer.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.recychool.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoJsonCrsTest {
+
+    @Test
+    void readsDeclaredCrs() {
+        String geoJson = """
+                {"type":"FeatureCollection",
+                 "crs":{"type":"name","properties":{"name":"urn:ogc:def:crs:EPSG::5179"}},
+                 "features":[]}
+                """;
+
+        assertEquals(GeoJsonCrs.KOREA_2000_UNIFIED, GeoJsonCrs.declaredSrid(geoJson));
+        assertEquals(GeoJsonCrs.WGS84, GeoJsonCrs.declaredSrid(
+                "{\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"urn:ogc:def:crs:OGC:1.3:CRS84\"}}}"));
+        assertNull(GeoJsonCrs.declaredSrid("{\"type\":\"Feature\",\"geometry\":null}"));
+    }
+
+    @Test
+    void declaredCrsWinsOverNameHint() {
+        Envelope wgs84 = new Envelope(126, 128, 36, 38);
+
+        assertEquals(GeoJsonCrs.WGS84, GeoJsonCrs.detectSrid(GeoJsonCrs.WGS84, "sido_5179", wgs84));
+        assertEquals(GeoJsonCrs.KOREA_2000_UNIFIED, GeoJsonCrs.detectSrid(null, "sido_5179", wgs84));
+        assertThrows(IllegalArgumentException.class, () -> GeoJsonCrs.detectSrid(3857, "sido", wgs84));
+    }
+}
@@ -0,0 +1,52 @@
+package com.app.recychool.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoreaTmProjectionTest {
+
+    // 미터 단위 허용 오차 1cm, 도 단위 허용 오차 약 1mm
+    private static final double METERS = 0.01;
+    private static final double DEGREES = 1e-8;
+
+    @Test
+    void originMapsToFalseEastingAndNorthing() {
+        double[] xy = KoreaTmProjection.forward(38.0, 127.5);
+
+        assertEquals(1_000_000.0, xy[0], METERS);
+        assertEquals(2_000_000.0, xy[1], METERS);
+    }
+
+    // 서울시청 (37.5665N, 126.9780E) 의 EPSG:5179 좌표 (Krüger 급수로 따로 계산한 값)
+    @Test
+    void forwardMatchesReferencePoint() {
+        double[] xy = KoreaTmProjection.forward(37.5665, 126.9780);
+
+        assertEquals(953_901.165, xy[0], METERS);
+        assertEquals(1_952_032.081, xy[1], METERS);
+    }
+
+    @Test
+    void inverseMatchesReferencePoint() {
+        double[] latLon = KoreaTmProjection.inverse(953_901.165, 1_952_032.081);
+
+        // 입력이 mm 단위로 반올림돼 있으므로 1e-7 도 (약 1cm)
+        assertEquals(37.5665, latLon[0], 1e-7);
+        assertEquals(126.9780, latLon[1], 1e-7);
+    }
+
+    @Test
+    void forwardThenInverseReturnsSamePoint() {
+        double[][] points = {{37.5665, 126.9780}, {35.1796, 129.0756}, {33.4996, 126.5312}, {38.2, 128.6}};
+
+        for (double[] point : points) {
+            double[] xy = KoreaTmProjection.forward(point[0], point[1]);
+            double[] latLon = KoreaTmProjection.inverse(xy[0], xy[1]);
+
+            assertEquals(point[0], latLon[0], DEGREES);
+            assertEquals(point[1], latLon[1], DEGREES);
+            assertTrue(KoreaTmProjection.isInRange(xy[0], xy[1]));
+        }
+    }
+}